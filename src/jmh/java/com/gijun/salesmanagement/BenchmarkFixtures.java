@@ -0,0 +1,83 @@
+package com.gijun.salesmanagement;
+
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.domain.User;
+import com.gijun.salesmanagement.domain.common.BaseEntity;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 매장 데이터. 감사(auditing) 필드는 JPA 없이 리플렉션으로 채웁니다.
+ */
+public final class BenchmarkFixtures {
+
+    private BenchmarkFixtures() {
+    }
+
+    public static User user() {
+        return User.builder()
+                .email("bench@example.com")
+                .password("{noop}password")
+                .name("벤치마크")
+                .phone("010-0000-0000")
+                .role(User.Role.ROLE_ADMIN)
+                .build();
+    }
+
+    /**
+     * 본사 1개와 count - 1 개의 가맹점
+     */
+    public static List<Store> stores(int count) {
+        User user = user();
+        Store.StoreCategory[] categories = Store.StoreCategory.values();
+
+        Store headquarter = Store.builder()
+                .storeName("본사")
+                .category(Store.StoreCategory.RESTAURANT)
+                .businessNumber("123-45-00000")
+                .openDate(LocalDate.of(2020, 1, 1))
+                .storeType(Store.StoreType.HEADQUARTER)
+                .createdBy(user)
+                .build();
+        headquarter.setStoreCode("AA-000");
+        audit(headquarter);
+
+        List<Store> stores = new ArrayList<>(count);
+        stores.add(headquarter);
+        for (int i = 1; i < count; i++) {
+            Store store = Store.builder()
+                    .storeName("가맹점 " + i)
+                    .category(categories[i % categories.length])
+                    .businessNumber(String.format("123-45-%05d", i))
+                    .openDate(LocalDate.of(2020, 1, 1).plusDays(i % 1000))
+                    .storeType(Store.StoreType.FRANCHISE)
+                    .headquarter(headquarter)
+                    .createdBy(user)
+                    .build();
+            store.setStoreCode(String.format("%c%c-%03d", 'A' + i / 26000 % 26, 'A' + i / 1000 % 26, i % 1000));
+            audit(store);
+            stores.add(store);
+        }
+        return stores;
+    }
+
+    private static void audit(BaseEntity entity) {
+        LocalDateTime now = LocalDateTime.now();
+        setField(entity, "createdAt", now);
+        setField(entity, "updatedAt", now);
+    }
+
+    private static void setField(Object target, String name, Object value) {
+        try {
+            Field field = BaseEntity.class.getDeclaredField(name);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.gijun.salesmanagement;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Thread.sleep 으로 블로킹을 흉내 낸 작업 clients 개를 한 번에 제출할 때, 고정 크기 스레드 풀(200)과 가상 스레드의 스케줄링 비용만 비교합니다.
+ * HTTP 처리, JDBC 커넥션 풀, Redis, BCrypt 는 포함하지 않으므로 서비스의 처리량이나 꼬리 지연을 나타내지 않습니다.
+ * 두 모드의 서비스 수준 비교는 실행 중인 애플리케이션에 외부 부하 도구로 측정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class ExecutorBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String threading;
+
+    @Param({"1000", "5000"})
+    private int clients;
+
+    @Param({"10"})
+    private long blockingMs;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = "virtual".equals(threading)
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(PLATFORM_POOL_SIZE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public int concurrentBlockingRequests() throws Exception {
+        List<Future<Integer>> futures = new ArrayList<>(clients);
+        for (int i = 0; i < clients; i++) {
+            int value = i;
+            futures.add(executor.submit(() -> {
+                Thread.sleep(blockingMs);
+                return value;
+            }));
+        }
+
+        int sum = 0;
+        for (Future<Integer> future : futures) {
+            sum += future.get();
+        }
+        return sum;
+    }
+}
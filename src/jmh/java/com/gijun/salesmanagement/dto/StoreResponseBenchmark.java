@@ -0,0 +1,48 @@
+package com.gijun.salesmanagement.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gijun.salesmanagement.BenchmarkFixtures;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.common.ApiResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 목록 응답 생성 비용: 엔티티 → DTO 변환과 ApiResponse JSON 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class StoreResponseBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int storeCount;
+
+    private List<Store> stores;
+    private List<StoreDto.Response> responses;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        stores = BenchmarkFixtures.stores(storeCount);
+        responses = stores.stream().map(StoreDto.Response::from).toList();
+        // Spring Boot 기본 ObjectMapper 와 같은 날짜 설정
+        objectMapper = new ObjectMapper()
+                .registerModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+    }
+
+    @Benchmark
+    public List<StoreDto.Response> responseFrom() {
+        return stores.stream().map(StoreDto.Response::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeApiResponse() throws Exception {
+        return objectMapper.writeValueAsBytes(ApiResponse.success(responses));
+    }
+}
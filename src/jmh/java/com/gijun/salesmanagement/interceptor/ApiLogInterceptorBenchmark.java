@@ -0,0 +1,53 @@
+package com.gijun.salesmanagement.interceptor;
+
+import com.gijun.salesmanagement.domain.ApiLog;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.util.ContentCachingRequestWrapper;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행되는 API 로그 생성 비용 (본문 복사, 파라미터 수집, 길이 제한)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ApiLogInterceptorBenchmark {
+
+    @Param({"256", "8192"})
+    private int bodySize;
+
+    private ApiLogInterceptor interceptor;
+    private ContentCachingRequestWrapper request;
+    private ContentCachingResponseWrapper response;
+
+    @Setup
+    public void setUp() throws Exception {
+        interceptor = new ApiLogInterceptor(null, null);  // buildApiLog 는 writer / recorder 를 사용하지 않음
+
+        byte[] body = "x".repeat(bodySize).getBytes(StandardCharsets.UTF_8);
+
+        MockHttpServletRequest mockRequest = new MockHttpServletRequest("POST", "/stores");
+        mockRequest.addHeader("User-Agent", "jmh");
+        mockRequest.addHeader("X-Forwarded-For", "10.0.0.1");
+        mockRequest.addParameter("category", "CAFE");
+        mockRequest.addParameter("storeType", "FRANCHISE");
+        mockRequest.setContent(body);
+
+        request = new ContentCachingRequestWrapper(mockRequest);
+        request.getInputStream().readAllBytes();  // 캐시에 본문 적재
+
+        response = new ContentCachingResponseWrapper(new MockHttpServletResponse());
+        response.getOutputStream().write(body);
+        response.setStatus(200);
+    }
+
+    @Benchmark
+    public ApiLog buildApiLog() {
+        return interceptor.buildApiLog(request, response, null, 1_500_000L);
+    }
+}
@@ -0,0 +1,35 @@
+package com.gijun.salesmanagement.monitoring;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 수행되는 응답 시간 기록 비용. -prof gc 로 실행하면 기록 경로의 할당이 0 인지 확인할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EndpointLatencyRecorderBenchmark {
+
+    private EndpointLatencyRecorder recorder;
+
+    @Setup
+    public void setUp() {
+        recorder = new EndpointLatencyRecorder();
+        recorder.record("GET", "/api/stores/{storeCode}", 1_000_000L, false);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void recordSingleThread() {
+        recorder.record("GET", "/api/stores/{storeCode}", 1_500_000L, false);
+    }
+
+    // 같은 히스토그램에 동시에 기록할 때의 경합
+    @Benchmark
+    @Threads(8)
+    public void recordContended() {
+        recorder.record("GET", "/api/stores/{storeCode}", 1_500_000L, false);
+    }
+}
@@ -0,0 +1,82 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.BenchmarkFixtures;
+import com.gijun.salesmanagement.config.JwtConfig;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.security.SecureRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 토큰 발급과 요청마다 수행되는 검증 경로 비교.
+ * validateThenGetAuthentication 은 토큰을 두 번 파싱하던 기존 필터 경로,
+ * resolveAuthenticationUncached / resolveAuthenticationCached 는 한 번 파싱하는 경로의 캐시 미스 / 적중 비용입니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        byte[] secret = new byte[64];
+        new SecureRandom().nextBytes(secret);
+        String encodedSecret = Encoders.BASE64.encode(secret);
+
+        cachedProvider = new JwtTokenProvider(jwtConfig(encodedSecret, 10000), new SimpleMeterRegistry());
+        uncachedProvider = new JwtTokenProvider(jwtConfig(encodedSecret, 0), new SimpleMeterRegistry());
+
+        var user = BenchmarkFixtures.user();
+        authentication = new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities());
+        token = cachedProvider.createAccessToken(authentication);
+        cachedProvider.resolveAuthentication(token);  // 캐시 적재
+    }
+
+    private static JwtConfig jwtConfig(String secret, long cacheSize) {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(secret);
+        config.setAccessTokenValidity(3600);
+        config.setRefreshTokenValidity(86400);
+        config.setAuthenticationCacheSize(cacheSize);
+        return config;
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return cachedProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return uncachedProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return uncachedProvider.getAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication validateThenGetAuthentication() {
+        return uncachedProvider.validateToken(token) ? uncachedProvider.getAuthentication(token) : null;
+    }
+
+    @Benchmark
+    public Authentication resolveAuthenticationUncached() {
+        return uncachedProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication resolveAuthenticationCached() {
+        return cachedProvider.resolveAuthentication(token);
+    }
+}
@@ -0,0 +1,84 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.BenchmarkFixtures;
+import com.gijun.salesmanagement.dto.StoreDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SXSSF 엑셀 내보내기 처리량과 최대 힙 사용량.
+ * rows 를 실행 시간으로 나누면 초당 행 수이며, peakHeapMb 는 행 수가 늘어도 일정해야 합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+public class ExcelSheetWriterBenchmark {
+
+    @Param({"100000", "1000000"})
+    private int rowCount;
+
+    private List<StoreDto.Response> template;
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Counters {
+        public long rows;
+        public double peakHeapMb;
+    }
+
+    @Setup
+    public void setUp() {
+        // 같은 응답 1000건을 반복하여 입력 데이터가 힙을 차지하지 않도록 함
+        template = BenchmarkFixtures.stores(1000).stream().map(StoreDto.Response::from).toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetPeakUsage() {
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    @Benchmark
+    public long writeStores(Counters counters) throws IOException {
+        long written = ExcelExportService.STORE_SHEET.write(rows(), OutputStream.nullOutputStream(), 1000, () -> {
+        });
+
+        counters.rows += written;
+        counters.peakHeapMb = Math.max(counters.peakHeapMb, heapPools().stream()
+                .mapToLong(pool -> pool.getPeakUsage().getUsed())
+                .sum() / (1024.0 * 1024.0));
+        return written;
+    }
+
+    private Iterator<StoreDto.Response> rows() {
+        return new Iterator<>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return index < rowCount;
+            }
+
+            @Override
+            public StoreDto.Response next() {
+                return template.get(index++ % template.size());
+            }
+        };
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+}
@@ -0,0 +1,41 @@
+package com.gijun.salesmanagement.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 매장 코드 ↔ 순번 변환. 자리 올림(AZ-999 → BA-000)이 일어나는 구간을 포함합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StoreCodeGeneratorBenchmark {
+
+    private static final long ROLLOVER_START = StoreCodeGenerator.toOrdinal("AZ-990");
+    private static final int RANGE = 20;
+
+    private long ordinal;
+    private String[] codes;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        codes = new String[RANGE];
+        for (int i = 0; i < RANGE; i++) {
+            codes[i] = StoreCodeGenerator.toStoreCode(ROLLOVER_START + i);
+        }
+    }
+
+    @Benchmark
+    public String toStoreCode() {
+        ordinal = ordinal + 1 < ROLLOVER_START + RANGE ? ordinal + 1 : ROLLOVER_START;
+        return StoreCodeGenerator.toStoreCode(ordinal);
+    }
+
+    @Benchmark
+    public long toOrdinal() {
+        index = (index + 1) % RANGE;
+        return StoreCodeGenerator.toOrdinal(codes[index]);
+    }
+}
@@ -0,0 +1,34 @@
+package com.gijun.salesmanagement.batch;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업 실행 단위로 공유되는 조회 데이터.
+ * 행마다 DB 를 조회하지 않도록 등록된 사업자번호와 본사 매장 ID 를 미리 메모리에 적재합니다.
+ */
+public class StoreImportContext {
+
+    private final Set<String> businessNumbers;
+    private volatile Map<String, Long> headquarterIds = Map.of();
+
+    StoreImportContext(Set<String> businessNumbers) {
+        this.businessNumbers = businessNumbers;
+    }
+
+    /**
+     * 사업자번호를 선점합니다. 이미 등록되었거나 파일 안에서 중복된 경우 false
+     */
+    public boolean reserveBusinessNumber(String businessNumber) {
+        return businessNumbers.add(businessNumber);
+    }
+
+    public Long getHeadquarterId(String storeCode) {
+        return headquarterIds.get(storeCode);
+    }
+
+    void setHeadquarterIds(Map<String, Long> headquarterIds) {
+        this.headquarterIds = new ConcurrentHashMap<>(headquarterIds);
+    }
+}
@@ -0,0 +1,89 @@
+package com.gijun.salesmanagement.batch;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 작업 시작 시 {@link StoreImportContext} 를 생성하고, 가맹점 단계 시작 전에 본사 매장 ID 를 적재합니다.
+ * 재시작 시에도 DB 에서 다시 적재하므로 이전 실행에서 저장된 행은 중복으로 처리됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StoreImportContextListener implements JobExecutionListener, StepExecutionListener {
+
+    private static final int FETCH_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<Long, StoreImportContext> contexts = new ConcurrentHashMap<>();
+
+    public StoreImportContext getContext(Long jobExecutionId) {
+        StoreImportContext context = contexts.get(jobExecutionId);
+        if (context == null) {
+            throw new IllegalStateException("매장 일괄 등록 컨텍스트가 없습니다: " + jobExecutionId);
+        }
+        return context;
+    }
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        Set<String> businessNumbers = ConcurrentHashMap.newKeySet();
+        jdbcTemplate.query(con -> {
+            var ps = con.prepareStatement("SELECT business_number FROM stores");
+            ps.setFetchSize(FETCH_SIZE);
+            return ps;
+        }, rs -> {
+            businessNumbers.add(rs.getString(1));
+        });
+
+        StoreImportContext context = new StoreImportContext(businessNumbers);
+        context.setHeadquarterIds(loadHeadquarterIds());
+        contexts.put(jobExecution.getId(), context);
+        log.info("매장 일괄 등록 시작: jobExecutionId={}, 기존 사업자번호 {}건", jobExecution.getId(), businessNumbers.size());
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        contexts.remove(jobExecution.getId());
+
+        // 재시작에 필요하지 않으므로 완료된 업로드 파일은 삭제
+        if (jobExecution.getStatus() == BatchStatus.COMPLETED) {
+            String filePath = jobExecution.getJobParameters().getString(StoreImportJobConfig.FILE_PATH);
+            try {
+                Files.deleteIfExists(Path.of(filePath));
+            } catch (IOException e) {
+                log.warn("업로드 파일 삭제 실패: {}", filePath, e);
+            }
+        }
+    }
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        // 본사 단계에서 등록된 본사까지 포함하여 다시 적재
+        getContext(stepExecution.getJobExecutionId()).setHeadquarterIds(loadHeadquarterIds());
+    }
+
+    private Map<String, Long> loadHeadquarterIds() {
+        Map<String, Long> headquarterIds = new HashMap<>();
+        jdbcTemplate.query("SELECT store_code, id FROM stores WHERE store_type = 'HEADQUARTER'",
+                rs -> {
+                    headquarterIds.put(rs.getString("store_code"), rs.getLong("id"));
+                });
+        return headquarterIds;
+    }
+}
@@ -0,0 +1,38 @@
+package com.gijun.salesmanagement.batch;
+
+import com.gijun.salesmanagement.event.StoreChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.ItemWriteListener;
+import org.springframework.batch.item.Chunk;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 저장된 chunk 의 매장을 {@link StoreChangedEvent} 로 발행합니다.
+ * chunk 트랜잭션 안에서 발행하므로 커밋된 경우에만 구독자에게 전달되고, 롤백되면 버려집니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StoreImportEventPublisher implements ItemWriteListener<StoreImportItem> {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public void afterWrite(Chunk<? extends StoreImportItem> items) {
+        for (StoreImportItem item : items) {
+            eventPublisher.publishEvent(new StoreChangedEvent(
+                    StoreChangedEvent.ChangeType.CREATED,
+                    null,
+                    item.storeCode(),
+                    item.storeName(),
+                    item.category(),
+                    null,
+                    item.storeType(),
+                    item.headquarterId(),
+                    item.headquarterStoreCode(),
+                    "N",
+                    item.createdAt()
+            ));
+        }
+    }
+}
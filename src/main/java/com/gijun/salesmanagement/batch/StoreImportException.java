@@ -0,0 +1,18 @@
+package com.gijun.salesmanagement.batch;
+
+import com.gijun.salesmanagement.exception.BusinessException;
+import lombok.Getter;
+
+/**
+ * 검증에 실패한 행. 작업을 중단하지 않고 skip 처리됩니다.
+ */
+@Getter
+public class StoreImportException extends BusinessException {
+
+    private final int lineNumber;
+
+    public StoreImportException(StoreImportRow row, String message) {
+        super(row.lineNumber() + "행: " + message, "E400");
+        this.lineNumber = row.lineNumber();
+    }
+}
@@ -0,0 +1,22 @@
+package com.gijun.salesmanagement.batch;
+
+import com.gijun.salesmanagement.domain.Store;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * stores 테이블에 INSERT 할 검증된 매장 정보
+ */
+public record StoreImportItem(
+        String storeCode,
+        String storeName,
+        Store.StoreCategory category,
+        String businessNumber,
+        LocalDate openDate,
+        Store.StoreType storeType,
+        Long headquarterId,
+        String headquarterStoreCode,
+        Long createdBy,
+        LocalDateTime createdAt
+) {}
@@ -0,0 +1,205 @@
+package com.gijun.salesmanagement.batch;
+
+import com.gijun.salesmanagement.config.StoreImportProperties;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.service.StoreCodeGenerator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcBatchItemWriter;
+import org.springframework.batch.item.database.builder.JdbcBatchItemWriterBuilder;
+import org.springframework.batch.item.file.FlatFileItemReader;
+import org.springframework.batch.item.file.builder.FlatFileItemReaderBuilder;
+import org.springframework.batch.item.file.transform.DelimitedLineTokenizer;
+import org.springframework.batch.item.file.transform.FieldSet;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+
+/**
+ * 매장 일괄 등록 작업.
+ * 본사 단계 → 가맹점 단계 순서로 같은 파일을 읽으며, 각 단계는 파일을 행 구간별로 나누어 병렬로 처리합니다.
+ * 실패한 작업은 같은 파라미터로 다시 실행하면 마지막으로 커밋된 chunk 이후부터 재시작합니다.
+ */
+@Configuration
+@PropertySource("classpath:batch.properties")
+@RequiredArgsConstructor
+public class StoreImportJobConfig {
+
+    public static final String JOB_NAME = "storeImportJob";
+    public static final String FILE_PATH = "filePath";
+    public static final String REQUESTED_BY = "requestedBy";
+
+    private static final String INSERT_SQL = """
+            INSERT INTO stores (store_code, store_name, category, business_number, open_date, close_yn,
+                                store_type, headquarter_id, created_by, updated_by, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, 'N', ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+    private final StoreImportProperties properties;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    @Bean
+    public Job storeImportJob(StoreImportContextListener contextListener,
+                              Step headquarterImportStep, Step franchiseImportStep) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(contextListener)
+                .start(headquarterImportStep)
+                .next(franchiseImportStep)
+                .build();
+    }
+
+    @Bean
+    public Step headquarterImportStep(Partitioner headquarterImportPartitioner, Step storeImportWorkerStep) {
+        return new StepBuilder("headquarterImportStep", jobRepository)
+                .partitioner("headquarterImportWorker", headquarterImportPartitioner)
+                .step(storeImportWorkerStep)
+                .gridSize(properties.getGridSize())
+                .taskExecutor(partitionTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    public Step franchiseImportStep(Partitioner franchiseImportPartitioner, Step storeImportWorkerStep,
+                                    StoreImportContextListener contextListener) {
+        return new StepBuilder("franchiseImportStep", jobRepository)
+                .listener(contextListener)
+                .partitioner("franchiseImportWorker", franchiseImportPartitioner)
+                .step(storeImportWorkerStep)
+                .gridSize(properties.getGridSize())
+                .taskExecutor(partitionTaskExecutor())
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public StoreImportPartitioner headquarterImportPartitioner(
+            @Value("#{jobParameters['" + FILE_PATH + "']}") String filePath) {
+        return new StoreImportPartitioner(Path.of(filePath), Store.StoreType.HEADQUARTER.name());
+    }
+
+    @Bean
+    @StepScope
+    public StoreImportPartitioner franchiseImportPartitioner(
+            @Value("#{jobParameters['" + FILE_PATH + "']}") String filePath) {
+        return new StoreImportPartitioner(Path.of(filePath), Store.StoreType.FRANCHISE.name());
+    }
+
+    @Bean
+    public Step storeImportWorkerStep(FlatFileItemReader<StoreImportRow> storeImportReader,
+                                      StoreImportProcessor storeImportProcessor,
+                                      JdbcBatchItemWriter<StoreImportItem> storeImportWriter,
+                                      StoreImportSkipListener skipListener,
+                                      StoreImportEventPublisher eventPublisher) {
+        return new StepBuilder("storeImportWorkerStep", jobRepository)
+                .<StoreImportRow, StoreImportItem>chunk(properties.getChunkSize(), transactionManager)
+                .reader(storeImportReader)
+                .processor(storeImportProcessor)
+                .writer(storeImportWriter)
+                .faultTolerant()
+                // 쓰기 실패 후 재처리 시 사업자번호 선점 / 코드 발급이 반복되지 않도록 처리 결과를 재사용
+                .processorNonTransactional()
+                .skip(StoreImportException.class)
+                .skip(DataIntegrityViolationException.class)
+                .skipLimit(properties.getSkipLimit())
+                .listener(skipListener)
+                .listener(eventPublisher)
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public FlatFileItemReader<StoreImportRow> storeImportReader(
+            @Value("#{jobParameters['" + FILE_PATH + "']}") String filePath,
+            @Value("#{stepExecutionContext['" + StoreImportPartitioner.START_LINE + "']}") Integer startLine,
+            @Value("#{stepExecutionContext['" + StoreImportPartitioner.LINE_COUNT + "']}") Integer lineCount) {
+        DelimitedLineTokenizer tokenizer = new DelimitedLineTokenizer();
+        tokenizer.setNames(StoreImportRow.FIELD_NAMES);
+        tokenizer.setStrict(false);  // 열 개수가 맞지 않는 행도 읽은 뒤 검증 단계에서 skip
+
+        return new FlatFileItemReaderBuilder<StoreImportRow>()
+                .name("storeImportReader")
+                .resource(new FileSystemResource(filePath))
+                .encoding(StandardCharsets.UTF_8.name())
+                .linesToSkip(1 + startLine)
+                .maxItemCount(lineCount)
+                .lineMapper((line, lineNumber) -> toRow(tokenizer.tokenize(line), lineNumber))
+                .build();
+    }
+
+    @Bean
+    @StepScope
+    public StoreImportProcessor storeImportProcessor(
+            StoreImportContextListener contextListener,
+            StoreCodeGenerator storeCodeGenerator,
+            @Value("#{stepExecution.jobExecutionId}") Long jobExecutionId,
+            @Value("#{stepExecutionContext['" + StoreImportPartitioner.PHASE + "']}") String phase,
+            @Value("#{jobParameters['" + REQUESTED_BY + "']}") Long requestedBy) {
+        return new StoreImportProcessor(Store.StoreType.valueOf(phase),
+                contextListener.getContext(jobExecutionId), storeCodeGenerator, requestedBy);
+    }
+
+    @Bean
+    public JdbcBatchItemWriter<StoreImportItem> storeImportWriter(DataSource dataSource) {
+        // MySQL 에서 다건 INSERT 로 묶으려면 JDBC URL 에 rewriteBatchedStatements=true 필요
+        return new JdbcBatchItemWriterBuilder<StoreImportItem>()
+                .dataSource(dataSource)
+                .sql(INSERT_SQL)
+                .itemPreparedStatementSetter((item, ps) -> {
+                    Timestamp createdAt = Timestamp.valueOf(item.createdAt());
+                    ps.setString(1, item.storeCode());
+                    ps.setString(2, item.storeName());
+                    ps.setString(3, item.category().name());
+                    ps.setString(4, item.businessNumber());
+                    ps.setDate(5, Date.valueOf(item.openDate()));
+                    ps.setString(6, item.storeType().name());
+                    ps.setObject(7, item.headquarterId(), Types.BIGINT);
+                    ps.setLong(8, item.createdBy());
+                    ps.setLong(9, item.createdBy());
+                    ps.setTimestamp(10, createdAt);
+                    ps.setTimestamp(11, createdAt);
+                })
+                .build();
+    }
+
+    private StoreImportRow toRow(FieldSet fieldSet, int lineNumber) {
+        return new StoreImportRow(
+                lineNumber,
+                fieldSet.readString("storeName"),
+                fieldSet.readString("category"),
+                fieldSet.readString("businessNumber"),
+                fieldSet.readString("openDate"),
+                fieldSet.readString("storeType"),
+                fieldSet.readString("headquarterStoreCode")
+        );
+    }
+
+    private TaskExecutor partitionTaskExecutor() {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("store-import-");
+        executor.setVirtualThreads(virtualThreads);
+        executor.setConcurrencyLimit(properties.getGridSize());
+        return executor;
+    }
+}
@@ -0,0 +1,61 @@
+package com.gijun.salesmanagement.batch;
+
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 업로드 파일의 데이터 행을 gridSize 개의 연속된 구간으로 나눕니다.
+ * 각 파티션은 [startLine, startLine + lineCount) 구간만 읽습니다. (여러 줄에 걸친 필드는 지원하지 않음)
+ */
+public class StoreImportPartitioner implements Partitioner {
+
+    public static final String START_LINE = "startLine";
+    public static final String LINE_COUNT = "lineCount";
+    public static final String PHASE = "phase";
+
+    private final Path file;
+    private final String phase;
+
+    public StoreImportPartitioner(Path file, String phase) {
+        this.file = file;
+        this.phase = phase;
+    }
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        long dataLines = Math.max(0, countLines() - 1);  // 헤더 제외
+        int partitions = (int) Math.max(1, Math.min(gridSize, dataLines));
+        long baseSize = dataLines / partitions;
+        long remainder = dataLines % partitions;
+
+        Map<String, ExecutionContext> result = new HashMap<>(partitions);
+        long startLine = 0;
+        for (int i = 0; i < partitions; i++) {
+            long lineCount = baseSize + (i < remainder ? 1 : 0);
+            ExecutionContext context = new ExecutionContext();
+            context.putInt(START_LINE, (int) startLine);
+            context.putInt(LINE_COUNT, (int) lineCount);
+            context.putString(PHASE, phase);
+            result.put("partition" + i, context);
+            startLine += lineCount;
+        }
+        return result;
+    }
+
+    private long countLines() {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return reader.lines().count();
+        } catch (IOException e) {
+            throw new UncheckedIOException("업로드 파일을 읽을 수 없습니다: " + file, e);
+        }
+    }
+}
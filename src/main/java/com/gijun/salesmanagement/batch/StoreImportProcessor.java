@@ -0,0 +1,115 @@
+package com.gijun.salesmanagement.batch;
+
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.service.StoreCodeGenerator;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.regex.Pattern;
+
+/**
+ * 행을 검증하고 매장 코드를 발급합니다.
+ * 본사 단계와 가맹점 단계가 같은 파일을 읽으므로, 현재 단계의 매장 유형이 아닌 행은 건너뜁니다 (filter).
+ * 매장 유형이 잘못된 행은 본사 단계에서 한 번만 skip 처리합니다.
+ */
+public class StoreImportProcessor implements ItemProcessor<StoreImportRow, StoreImportItem> {
+
+    private static final Pattern BUSINESS_NUMBER_PATTERN = Pattern.compile("\\d{3}-\\d{2}-\\d{5}");
+
+    private final Store.StoreType phase;
+    private final StoreImportContext context;
+    private final StoreCodeGenerator storeCodeGenerator;
+    private final Long requestedBy;
+
+    public StoreImportProcessor(Store.StoreType phase, StoreImportContext context,
+                                StoreCodeGenerator storeCodeGenerator, Long requestedBy) {
+        this.phase = phase;
+        this.context = context;
+        this.storeCodeGenerator = storeCodeGenerator;
+        this.requestedBy = requestedBy;
+    }
+
+    @Override
+    public StoreImportItem process(StoreImportRow row) {
+        Store.StoreType storeType = parseEnum(Store.StoreType.class, row.storeType());
+        boolean franchise = storeType == Store.StoreType.FRANCHISE;
+        if (franchise != (phase == Store.StoreType.FRANCHISE)) {
+            return null;
+        }
+        if (storeType == null) {
+            throw new StoreImportException(row, "매장 유형이 올바르지 않습니다.");
+        }
+
+        if (!StringUtils.hasText(row.storeName())) {
+            throw new StoreImportException(row, "매장명은 필수입니다.");
+        }
+
+        Store.StoreCategory category = parseEnum(Store.StoreCategory.class, row.category());
+        if (category == null) {
+            throw new StoreImportException(row, "매장 카테고리가 올바르지 않습니다.");
+        }
+
+        String businessNumber = StringUtils.trimWhitespace(row.businessNumber());
+        if (businessNumber == null || !BUSINESS_NUMBER_PATTERN.matcher(businessNumber).matches()) {
+            throw new StoreImportException(row, "올바른 사업자 번호 형식이 아닙니다.");
+        }
+
+        LocalDate openDate = parseDate(row);
+
+        Long headquarterId = null;
+        String headquarterStoreCode = null;
+        if (franchise) {
+            if (!StringUtils.hasText(row.headquarterStoreCode())) {
+                throw new StoreImportException(row, "가맹점 등록 시 본사 매장 코드는 필수입니다.");
+            }
+            headquarterStoreCode = row.headquarterStoreCode().trim();
+            headquarterId = context.getHeadquarterId(headquarterStoreCode);
+            if (headquarterId == null) {
+                throw new StoreImportException(row, "존재하지 않는 본사 매장입니다.");
+            }
+        }
+
+        // 모든 검증을 통과한 뒤에 사업자번호를 선점
+        if (!context.reserveBusinessNumber(businessNumber)) {
+            throw new StoreImportException(row, "이미 등록된 사업자번호입니다.");
+        }
+
+        return new StoreImportItem(
+                storeCodeGenerator.generateStoreCode(),
+                row.storeName().trim(),
+                category,
+                businessNumber,
+                openDate,
+                storeType,
+                headquarterId,
+                headquarterStoreCode,
+                requestedBy,
+                LocalDateTime.now()
+        );
+    }
+
+    private LocalDate parseDate(StoreImportRow row) {
+        if (!StringUtils.hasText(row.openDate())) {
+            throw new StoreImportException(row, "개장일은 필수입니다.");
+        }
+        try {
+            return LocalDate.parse(row.openDate().trim());
+        } catch (DateTimeParseException e) {
+            throw new StoreImportException(row, "개장일은 yyyy-MM-dd 형식이어야 합니다.");
+        }
+    }
+
+    private static <E extends Enum<E>> E parseEnum(Class<E> type, String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+        try {
+            return Enum.valueOf(type, value.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.gijun.salesmanagement.batch;
+
+/**
+ * 업로드 파일의 한 행. 검증은 {@link StoreImportProcessor} 에서 하므로 원본 문자열 그대로 보관합니다.
+ */
+public record StoreImportRow(
+        int lineNumber,
+        String storeName,
+        String category,
+        String businessNumber,
+        String openDate,
+        String storeType,
+        String headquarterStoreCode
+) {
+    public static final String[] FIELD_NAMES = {
+            "storeName", "category", "businessNumber", "openDate", "storeType", "headquarterStoreCode"
+    };
+}
@@ -0,0 +1,25 @@
+package com.gijun.salesmanagement.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class StoreImportSkipListener implements SkipListener<StoreImportRow, StoreImportItem> {
+
+    @Override
+    public void onSkipInRead(Throwable t) {
+        log.warn("매장 일괄 등록 읽기 실패: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInProcess(StoreImportRow row, Throwable t) {
+        log.warn("매장 일괄 등록 검증 실패: {}", t.getMessage());
+    }
+
+    @Override
+    public void onSkipInWrite(StoreImportItem item, Throwable t) {
+        log.warn("매장 일괄 등록 저장 실패: businessNumber={}, {}", item.businessNumber(), t.getMessage());
+    }
+}
@@ -0,0 +1,127 @@
+package com.gijun.salesmanagement.batch;
+
+import com.gijun.salesmanagement.exception.InvalidValueException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+import javax.xml.parsers.ParserConfigurationException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+
+/**
+ * XLSX 의 첫 번째 시트를 CSV 로 변환합니다.
+ * SAX(이벤트) 방식으로 읽으므로 워크북 전체를 메모리에 올리지 않습니다.
+ */
+public final class XlsxCsvConverter {
+
+    private XlsxCsvConverter() {
+    }
+
+    public static void convert(Path xlsx, Path csv) throws IOException {
+        try (OPCPackage pkg = OPCPackage.open(xlsx.toFile(), PackageAccess.READ);
+             Writer writer = Files.newBufferedWriter(csv, StandardCharsets.UTF_8)) {
+            XSSFReader reader = new XSSFReader(pkg);
+            Iterator<InputStream> sheets = reader.getSheetsData();
+            if (!sheets.hasNext()) {
+                throw new InvalidValueException("엑셀 파일에 시트가 없습니다.");
+            }
+
+            XMLReader parser = XMLHelper.newXMLReader();
+            parser.setContentHandler(new XSSFSheetXMLHandler(reader.getStylesTable(), null,
+                    new ReadOnlySharedStringsTable(pkg), new CsvRowHandler(writer), new IsoDateFormatter(), false));
+            try (InputStream sheet = sheets.next()) {
+                parser.parse(new InputSource(sheet));
+            }
+        } catch (OpenXML4JException | SAXException | ParserConfigurationException e) {
+            throw new InvalidValueException("엑셀 파일을 읽을 수 없습니다.");
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static final class CsvRowHandler implements XSSFSheetXMLHandler.SheetContentsHandler {
+
+        private final Writer writer;
+        private int nextColumn;
+
+        private CsvRowHandler(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            write("\r\n");
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            // 비어 있는 셀은 XML 에 없으므로 구분자로 채움
+            for (; nextColumn < column; nextColumn++) {
+                if (nextColumn > 0) {
+                    write(",");
+                }
+            }
+            if (column > 0) {
+                write(",");
+            }
+            write(escape(formattedValue));
+            nextColumn = column + 1;
+        }
+
+        private void write(String value) {
+            try {
+                writer.write(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String escape(String value) {
+            if (value == null) {
+                return "";
+            }
+            if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+                return value;
+            }
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+    }
+
+    /**
+     * 날짜 셀은 표시 형식과 관계없이 yyyy-MM-dd 로 변환
+     */
+    private static final class IsoDateFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value).toLocalDate().toString();
+            }
+            return super.formatRawCellContents(value, formatIndex, formatString);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.gijun.salesmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.api-log")
+public class ApiLogProperties {
+    private int queueCapacity = 10_000;       // 메모리 큐 최대 크기
+    private int batchSize = 500;              // 한 번에 INSERT 할 최대 건수
+    private long flushIntervalMs = 1_000;     // 배치가 차지 않아도 flush 하는 주기
+    private OverflowPolicy overflowPolicy = OverflowPolicy.DROP;
+    private int sampleRate = 10;              // SAMPLE 정책: 큐가 high-water mark 를 넘으면 N건 중 1건만 저장
+    private double highWaterMark = 0.8;       // SAMPLE 정책이 동작하기 시작하는 큐 사용률
+    private long blockTimeoutMs = 50;         // BLOCK 정책: 큐가 찼을 때 최대 대기 시간
+    private long shutdownTimeoutMs = 10_000;  // 종료 시 잔여 로그 flush 대기 시간
+    private Retention retention = new Retention();
+
+    public enum OverflowPolicy {
+        DROP,   // 큐가 가득 차면 버림
+        SAMPLE, // 큐가 high-water mark 를 넘으면 샘플링, 가득 차면 버림
+        BLOCK   // 큐에 자리가 날 때까지 blockTimeoutMs 만큼 대기 후 버림
+    }
+
+    @Getter
+    @Setter
+    public static class Retention {
+        private boolean enabled = true;
+        private int retentionDays = 90;                // 이 기간이 지난 로그를 삭제
+        private Granularity granularity = Granularity.DAY; // 파티션 단위 (관리자 API 로 파티션 테이블 전환 시)
+        private int precreatePartitions = 7;           // 미리 만들어 둘 파티션 수
+        private long convertMaxRows = 1_000_000;       // 이보다 큰 기존 테이블은 관리자 API 로 전환하지 않음 (수동 마이그레이션)
+        private int deleteBatchSize = 5_000;           // 배치 삭제 시 한 번에 삭제할 id 범위
+        private long deletePauseMs = 100;              // 배치 삭제 사이 대기 시간 (복제 지연 / 락 경합 완화)
+        private boolean archiveEnabled = false;        // 삭제 전 gzip NDJSON 파일로 보관
+        private String archiveDirectory = "./archive/api-logs";
+    }
+
+    public enum Granularity {
+        DAY, MONTH
+    }
+}
@@ -0,0 +1,54 @@
+package com.gijun.salesmanagement.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * {@code @Async} 작업과 MVC 비동기 처리 실행기.
+ * 이 애플리케이션은 다른 Executor 빈(스냅샷 재구성, WebSocket 브로커)을 정의하므로 Spring Boot 가 applicationTaskExecutor 를
+ * 만들지 않습니다. 그래서 같은 이름(과 @Async 기본 이름 taskExecutor)으로 직접 정의합니다.
+ * spring.threads.virtual.enabled=true 이면 가상 스레드, 아니면 spring.task.execution.pool.* 설정의 스레드 풀을 사용합니다.
+ */
+@Configuration
+@EnableAsync
+@PropertySource("classpath:async.properties")
+public class AsyncConfig {
+
+    public static final String STORE_LIST_SNAPSHOT_EXECUTOR = "storeListSnapshotExecutor";
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder,
+                                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        if (virtualThreads) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("task-");
+            executor.setVirtualThreads(true);
+            return executor;
+        }
+        return threadPoolTaskExecutorBuilder.build();
+    }
+
+    /**
+     * 매장 목록 스냅샷 재구성 전용 실행기. 목록 종류별로 동시에 하나만 재구성하므로 작은 고정 크기로 충분하며,
+     * 큐가 가득 차면 거절하여 요청 스레드에서 503 으로 처리합니다.
+     */
+    @Bean(name = STORE_LIST_SNAPSHOT_EXECUTOR)
+    public ThreadPoolTaskExecutor storeListSnapshotExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(32);
+        executor.setThreadNamePrefix("store-snapshot-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        return executor;
+    }
+}
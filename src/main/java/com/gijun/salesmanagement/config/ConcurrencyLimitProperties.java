@@ -0,0 +1,37 @@
+package com.gijun.salesmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 동시 처리 요청 수 제한(load shedding) 설정. limit 은 초기값에서 시작해 관측된 응답 시간에 따라 자동으로 조정됩니다.
+ * 우선순위별로 limit 의 일정 비율까지만 사용할 수 있으므로 포화 시 BULK → NORMAL → CRITICAL 순서로 거절됩니다.
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.concurrency-limit")
+public class ConcurrencyLimitProperties {
+    private boolean enabled = true;
+    private int initialLimit = 40;
+    private int minLimit = 8;
+    private int maxLimit = 180;                 // Tomcat 최대 스레드 수(200)보다 작게 유지
+    private double backoffRatio = 0.9;          // 지연 / 오류 감지 시 limit 에 곱하는 비율
+    private double latencyTolerance = 2.0;      // 주기 내 최소 응답 시간이 기준 응답 시간의 몇 배를 넘으면 감소
+    private long windowMs = 1000;               // limit 조정 주기
+    private int minWindowSamples = 10;          // 조정에 필요한 주기당 최소 완료 요청 수
+    private double baselineDriftRatio = 0.02;   // 여유 있는 주기의 평균 쪽으로 기준 응답 시간을 옮기는 비율 (DB 특성 변화 반영)
+    private double normalShare = 0.9;           // NORMAL 요청이 사용할 수 있는 limit 비율
+    private double bulkShare = 0.6;             // BULK 요청이 사용할 수 있는 limit 비율
+    private int retryAfterSeconds = 1;
+    private List<String> criticalPaths = new ArrayList<>(List.of("/api/auth/login", "/api/auth/refresh"));
+    private List<String> bulkPaths = new ArrayList<>(List.of(  // GET 요청만 BULK 로 분류
+            "/api/stores", "/api/stores/all", "/api/stores/search", "/api/stores/export", "/api/stores/headquarters",
+            "/api/stores/franchises", "/api/stores/category/*", "/api/stores/headquarter/*/franchises",
+            "/api/api-logs/**"));
+}
@@ -14,4 +14,6 @@ public class JwtConfig {
     private String secret;
     private long accessTokenValidity;
     private long refreshTokenValidity;
+    private long authenticationCacheSize = 10000;        // 검증된 토큰 캐시 최대 개수
+    private long authenticationCacheTtlSeconds = 300;    // 토큰 만료 시각보다 먼저 도래하면 이 시간에 만료
 }
\ No newline at end of file
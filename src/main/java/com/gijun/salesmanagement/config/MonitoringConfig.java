@@ -0,0 +1,12 @@
+package com.gijun.salesmanagement.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
+
+/**
+ * Actuator 노출 설정의 기본값을 등록합니다. 환경 변수나 외부 설정으로 덮어쓸 수 있습니다.
+ */
+@Configuration
+@PropertySource("classpath:monitoring.properties")
+public class MonitoringConfig {
+}
@@ -0,0 +1,21 @@
+package com.gijun.salesmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.security.password")
+public class PasswordEncoderProperties {
+    private int strength = 10;               // 모든 노드에서 같은 값을 사용 (노드마다 다르면 upgradeEncoding 으로 재해시가 반복됨)
+    private boolean calibrateOnStartup = true; // 기동 시 targetLatencyMs 기준 권장 strength 를 측정하여 로그로 안내
+    private long targetLatencyMs = 250;
+    private int minStrength = 10;
+    private int maxStrength = 14;
+    private int poolSize = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+    private int queueCapacity = 0;           // 0 이면 poolSize × 2 (대기열이 길면 거절 전까지 요청 스레드가 오래 묶임)
+    private long timeoutMs = 300;            // 대기 + 해시 최대 시간, 해시 1회 시간(targetLatencyMs) 수준으로 유지
+}
@@ -0,0 +1,67 @@
+package com.gijun.salesmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 요청 제한 규칙. 요청 경로와 일치하는 첫 번째 규칙을 적용하며, 인증된 요청은 사용자별, 그 외에는 클라이언트 IP 별로 제한합니다.
+ * <pre>
+ * app.rate-limit.rules[0].name=login
+ * app.rate-limit.rules[0].path=/api/auth/login
+ * app.rate-limit.rules[0].methods=POST
+ * app.rate-limit.rules[0].limit=10
+ * app.rate-limit.rules[0].period=1m
+ * app.rate-limit.rules[0].global=true
+ * app.rate-limit.rules[1].role-limits.ADMIN=0
+ * </pre>
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private boolean redisEnabled = false;       // global 규칙을 Redis 로 노드 전체에 적용
+    private String redisKeyPrefix = "ratelimit:";
+    private int maxLocalKeys = 100_000;         // 로컬 상태 최대 개수 (초과 시 새 키는 규칙별 공용 버킷으로 제한)
+    private List<Rule> rules = new ArrayList<>(defaultRules());
+
+    @Getter
+    @Setter
+    public static class Rule {
+        private String name;
+        private String path;                              // PathPattern (/api/stores/**)
+        private List<String> methods = new ArrayList<>(); // 비어 있으면 모든 메서드
+        private long limit;                               // period 당 허용 요청 수
+        private Duration period = Duration.ofMinutes(1);
+        private int burst = 0;                            // 순간 허용량 (0 이면 limit)
+        private boolean global = false;                   // redisEnabled 일 때 Redis 에서도 검사
+        private Map<String, Long> roleLimits = new HashMap<>(); // 역할별 limit (0 이하이면 제한 없음)
+
+        public Rule() {
+        }
+
+        Rule(String name, String path, String method, long limit, boolean global) {
+            this.name = name;
+            this.path = path;
+            this.methods = new ArrayList<>(List.of(method));
+            this.limit = limit;
+            this.global = global;
+        }
+    }
+
+    private static List<Rule> defaultRules() {
+        Rule login = new Rule("login", "/api/auth/login", "POST", 10, true);
+        Rule storeRead = new Rule("stores-read", "/api/stores/**", "GET", 600, false);
+        storeRead.getRoleLimits().put("ADMIN", 0L);
+        return List.of(login, storeRead);
+    }
+}
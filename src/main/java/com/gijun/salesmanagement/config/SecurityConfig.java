@@ -2,13 +2,23 @@ package com.gijun.salesmanagement.config;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gijun.salesmanagement.dto.common.ApiResponse;
+import com.gijun.salesmanagement.security.AdaptiveConcurrencyLimiter;
+import com.gijun.salesmanagement.security.BCryptCalibrator;
+import com.gijun.salesmanagement.security.BoundedPasswordEncoder;
 import com.gijun.salesmanagement.security.JwtAuthenticationFilter;
 import com.gijun.salesmanagement.security.JwtTokenProvider;
+import com.gijun.salesmanagement.security.LoadSheddingFilter;
+import com.gijun.salesmanagement.security.RateLimitFilter;
+import com.gijun.salesmanagement.security.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.MediaType;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -18,26 +28,41 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+@Slf4j
 @Configuration
 @EnableWebSecurity
+@EnableMethodSecurity
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final ConcurrencyLimitProperties concurrencyLimitProperties;
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, MeterRegistry meterRegistry) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .cors(cors -> cors.configure(http))
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 요청 / 응답 본문(비밀번호, 토큰 포함)이 저장된 API 로그는 관리자만 조회
+                        .requestMatchers("/api-logs/**").hasRole("ADMIN")
+                        .requestMatchers("/stores/import/**").hasRole("ADMIN")
+                        // 헬스 체크와 Prometheus 수집을 제외한 actuator(SQL 통계, 응답 시간 등)는 관리자만 조회 / 변경
+                        .requestMatchers(EndpointRequest.to("health", "info", "prometheus")).permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
                         .anyRequest().permitAll()
                 )
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider),
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, meterRegistry),
                         UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new RateLimitFilter(rateLimiter, jwtTokenProvider, objectMapper),
+                        JwtAuthenticationFilter.class)
+                .addFilterBefore(new LoadSheddingFilter(concurrencyLimiter, concurrencyLimitProperties,
+                        jwtTokenProvider, objectMapper), RateLimitFilter.class)
                 .exceptionHandling(exceptionHandling -> exceptionHandling
                         .authenticationEntryPoint((request, response, authException) -> {
                             response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
@@ -58,7 +83,16 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordEncoderProperties properties, MeterRegistry meterRegistry) {
+        // strength 는 설정값으로 고정하고, 측정 결과는 설정 변경을 위한 안내로만 사용
+        if (properties.isCalibrateOnStartup()) {
+            int recommended = BCryptCalibrator.calibrate(properties.getTargetLatencyMs(),
+                    properties.getMinStrength(), properties.getMaxStrength());
+            if (recommended != properties.getStrength()) {
+                log.info("BCrypt strength {} 사용 중, 이 장비의 권장 값은 {} 입니다 (목표 {}ms, app.security.password.strength)",
+                        properties.getStrength(), recommended, properties.getTargetLatencyMs());
+            }
+        }
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(properties.getStrength()), properties, meterRegistry);
     }
 }
\ No newline at end of file
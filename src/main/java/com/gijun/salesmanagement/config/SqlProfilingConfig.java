@@ -0,0 +1,46 @@
+package com.gijun.salesmanagement.config;
+
+import com.gijun.salesmanagement.monitoring.SqlProfiler;
+import com.gijun.salesmanagement.monitoring.SqlProfilingListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * DataSource 를 datasource-proxy 로 감싸 실행되는 SQL 을 {@link SqlProfiler} 로 집계합니다.
+ * app.sql-profiling.enabled=false 이면 감싸지 않습니다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.sql-profiling.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlProfilingConfig {
+
+    // BeanPostProcessor 는 다른 빈보다 먼저 생성되므로 static 으로 등록하고, 의존 빈은 사용할 때 조회
+    @Bean
+    public static BeanPostProcessor sqlProfilingDataSourcePostProcessor(ObjectProvider<SqlProfiler> sqlProfiler,
+                                                                        Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+
+                SqlProfilingListener listener = new SqlProfilingListener(sqlProfiler);
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener);
+                if (environment.getProperty("app.sql-profiling.count-rows", Boolean.class, true)) {
+                    builder.methodListener(listener).proxyResultSet();
+                }
+                return builder.build();
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.gijun.salesmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.sql-profiling")
+public class SqlProfilingProperties {
+    private boolean enabled = true;             // false 이면 DataSource 를 감싸지 않음 (재시작 필요)
+    private double sampleRate = 1.0;            // 실행 시간 / 행 수를 기록할 문장 비율 (0.0 ~ 1.0). 실행 횟수는 항상 집계
+    private long slowQueryThresholdMs = 200;    // 이 시간 이상 걸린 문장은 로그와 최근 느린 쿼리 목록에 기록
+    private int repeatedQueryThreshold = 10;    // 한 요청에서 같은 SELECT 가 이 횟수 이상 실행되면 N+1 로 판단
+    private boolean countRows = true;           // ResultSet 을 감싸 조회 행 수를 집계 (false 이면 오버헤드 감소)
+    private int maxFingerprints = 2_000;        // 집계할 최대 문장 종류 수
+    private int slowQueryHistorySize = 50;
+}
@@ -0,0 +1,19 @@
+package com.gijun.salesmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.cache.store")
+public class StoreCacheProperties {
+    private long localMaximumSize = 10_000;         // 로컬(1차) 캐시 최대 항목 수
+    private long localTtlSeconds = 30;              // 로컬 캐시 TTL (다른 노드의 변경이 반영되는 최대 지연)
+    private long redisTtlSeconds = 600;             // Redis(2차) 캐시 TTL
+    private String redisKeyPrefix = "store:response:";
+    private long listSnapshotMaxAgeSeconds = 30;    // 목록 스냅샷 최대 사용 시간 (다른 노드의 변경이 반영되는 최대 지연)
+    private int listSnapshotGzipMinBytes = 1024;    // 이 크기 이상인 목록 스냅샷만 gzip 본문을 함께 보관 (0 이하이면 사용 안 함)
+}
@@ -0,0 +1,17 @@
+package com.gijun.salesmanagement.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.batch.store-import")
+public class StoreImportProperties {
+    private int chunkSize = 1000;
+    private int gridSize = Runtime.getRuntime().availableProcessors();  // 커넥션 풀 크기를 넘지 않도록 조정
+    private int skipLimit = 1000;
+    private String uploadDir = System.getProperty("java.io.tmpdir") + "/store-import";
+}
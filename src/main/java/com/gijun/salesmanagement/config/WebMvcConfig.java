@@ -1,21 +1,29 @@
 package com.gijun.salesmanagement.config;
 
 import com.gijun.salesmanagement.interceptor.ApiLogInterceptor;
+import com.gijun.salesmanagement.interceptor.SqlProfilingInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.PropertySource;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
+@PropertySource("classpath:web.properties")
 @RequiredArgsConstructor
 public class WebMvcConfig implements WebMvcConfigurer {
 
     private final ApiLogInterceptor apiLogInterceptor;
+    private final SqlProfilingInterceptor sqlProfilingInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 인터셉터 패턴은 context path 를 제외한 애플리케이션 내부 경로 기준
         registry.addInterceptor(apiLogInterceptor)
-                .addPathPatterns("/api/**")
-                .excludePathPatterns("/api/health", "/api/swagger-ui/**", "/api/api-docs/**");
+                .addPathPatterns("/**")
+                .excludePathPatterns("/health", "/swagger-ui/**", "/api-docs/**", "/error");
+        registry.addInterceptor(sqlProfilingInterceptor)
+                .addPathPatterns("/**")
+                .excludePathPatterns("/swagger-ui/**", "/api-docs/**", "/error");
     }
 }
\ No newline at end of file
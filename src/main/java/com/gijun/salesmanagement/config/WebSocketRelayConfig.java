@@ -0,0 +1,62 @@
+package com.gijun.salesmanagement.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gijun.salesmanagement.websocket.ClusterMessageRelay;
+import com.gijun.salesmanagement.websocket.LocalRelayTransport;
+import com.gijun.salesmanagement.websocket.RedisRelayTransport;
+import com.gijun.salesmanagement.websocket.RelayTransport;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.util.StringUtils;
+
+import java.util.UUID;
+
+/**
+ * 다중 노드 WebSocket 전달 설정.
+ * app.websocket.relay=redis 이면 Redis pub/sub 으로 노드 간 메시지를 전달하고, 기본값 local 은 이 노드에만 전달합니다.
+ */
+@Configuration
+public class WebSocketRelayConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.relay", havingValue = "local", matchIfMissing = true)
+    public RelayTransport localRelayTransport() {
+        return new LocalRelayTransport();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.relay", havingValue = "redis")
+    public RedisMessageListenerContainer websocketRelayListenerContainer(RedisConnectionFactory redisConnectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        return container;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "app.websocket.relay", havingValue = "redis")
+    public RelayTransport redisRelayTransport(StringRedisTemplate stringRedisTemplate,
+                                              RedisMessageListenerContainer websocketRelayListenerContainer,
+                                              ObjectMapper objectMapper,
+                                              @Value("${app.websocket.relay-channel:ws:relay}") String channel,
+                                              @Value("${app.websocket.relay-batch-size:100}") int batchSize) {
+        return new RedisRelayTransport(stringRedisTemplate, websocketRelayListenerContainer,
+                objectMapper, channel, batchSize);
+    }
+
+    @Bean
+    public ClusterMessageRelay clusterMessageRelay(SimpMessageSendingOperations messagingTemplate,
+                                                   RelayTransport relayTransport,
+                                                   ObjectMapper objectMapper,
+                                                   MeterRegistry meterRegistry,
+                                                   @Value("${app.websocket.node-id:}") String nodeId) {
+        return new ClusterMessageRelay(messagingTemplate, relayTransport, objectMapper, meterRegistry,
+                StringUtils.hasText(nodeId) ? nodeId : UUID.randomUUID().toString());
+    }
+}
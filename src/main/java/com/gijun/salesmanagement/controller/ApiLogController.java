@@ -0,0 +1,57 @@
+package com.gijun.salesmanagement.controller;
+
+import com.gijun.salesmanagement.dto.common.ApiResponse;
+import com.gijun.salesmanagement.dto.common.ExportFormat;
+import com.gijun.salesmanagement.service.ApiLogRetentionService;
+import com.gijun.salesmanagement.service.ExcelExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+@Tag(name = "ApiLog", description = "API 로그 API")
+@RestController
+@RequestMapping("/api-logs")
+@RequiredArgsConstructor
+public class ApiLogController {
+
+    private final ExcelExportService excelExportService;
+    private final ApiLogRetentionService apiLogRetentionService;
+
+    @Operation(summary = "API 로그 엑셀 내보내기", description = "기간 내 API 로그를 XLSX 로 스트리밍합니다. (to 는 포함하지 않음)")
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void exportApiLogs(
+            @Parameter(description = "조회 시작 시각 (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "조회 종료 시각 (ISO-8601)", required = true)
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(ExportFormat.XLSX.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"api_logs." + ExportFormat.XLSX.getExtension() + "\"");
+        excelExportService.exportApiLogs(from, to, response.getOutputStream());
+    }
+
+    @Operation(summary = "API 로그 테이블 파티션 전환",
+            description = "api_logs 를 RANGE 파티션 테이블로 전환합니다. 테이블 복사 중 로그 저장이 대기하므로 점검 시간에 실행하세요.")
+    @PostMapping("/partitioning")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<Void>> convertToPartitioned() {
+        apiLogRetentionService.convertToPartitioned();
+        return ResponseEntity.ok(ApiResponse.successResponse());
+    }
+}
@@ -29,4 +29,15 @@ public class AuthController {
         AuthDto.LoginResponse response = authService.login(request);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<ApiResponse<AuthDto.TokenResponse>> refresh(@Valid @RequestBody AuthDto.RefreshRequest request) {
+        return ResponseEntity.ok(ApiResponse.success(authService.refresh(request)));
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<ApiResponse<Void>> logout(@Valid @RequestBody AuthDto.RefreshRequest request) {
+        authService.logout(request);
+        return ResponseEntity.ok(ApiResponse.successResponse());
+    }
 }
\ No newline at end of file
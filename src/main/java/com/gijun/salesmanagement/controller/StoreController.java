@@ -3,16 +3,27 @@ package com.gijun.salesmanagement.controller;
 import com.gijun.salesmanagement.domain.Store;
 import com.gijun.salesmanagement.dto.StoreDto;
 import com.gijun.salesmanagement.dto.common.ApiResponse;
+import com.gijun.salesmanagement.dto.common.CursorPage;
+import com.gijun.salesmanagement.dto.common.ExportFormat;
+import com.gijun.salesmanagement.exception.InvalidValueException;
+import com.gijun.salesmanagement.service.StoreExportService;
+import com.gijun.salesmanagement.service.StoreListSnapshotCache;
 import com.gijun.salesmanagement.service.StoreService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 @Tag(name = "Store", description = "매장 관리 API")
@@ -22,6 +33,8 @@ import java.util.List;
 public class StoreController {
 
     private final StoreService storeService;
+    private final StoreExportService storeExportService;
+    private final StoreListSnapshotCache storeListSnapshotCache;
 
     @Operation(summary = "매장 등록", description = "본사 또는 가맹점 매장을 등록합니다. 가맹점 등록 시 본사 매장 코드가 필요합니다.")
     @PostMapping
@@ -59,61 +72,131 @@ public class StoreController {
         return ResponseEntity.ok(ApiResponse.success(storeService.getStore(storeCode)));
     }
 
-    @Operation(summary = "운영중인 전체 매장 목록 조회")
+    @Operation(summary = "운영중인 전체 매장 목록 조회",
+            description = "매장 코드 순으로 정렬되며, 응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다.")
     @GetMapping
-    public ResponseEntity<ApiResponse<List<StoreDto.Response>>> getAllActiveStores(
+    public ResponseEntity<ApiResponse<CursorPage<StoreDto.Response>>> getAllActiveStores(
             @Parameter(description = "매장 유형", required = false)
-            @RequestParam(required = false) Store.StoreType storeType) {
-        List<StoreDto.Response> stores = storeService.getAllActiveStores();
-        if (storeType != null) {
-            stores = stores.stream()
-                    .filter(store -> store.storeType() == storeType)
-                    .toList();
+            @RequestParam(required = false) Store.StoreType storeType,
+            @Parameter(description = "이전 페이지의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500)")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                storeService.searchStorePage(StoreDto.SearchCondition.ofStoreType(storeType), cursor, size)));
+    }
+
+    @Operation(summary = "운영중인 매장 전체 목록 (스냅샷)",
+            description = "페이지 없이 운영중인 매장 전체를 응답합니다. storeType 또는 category 중 하나로 목록을 지정할 수 있습니다. " +
+                    "ETag 를 If-None-Match 로 전달하면 변경이 없는 경우 304 를 응답합니다.")
+    @GetMapping("/all")
+    public ResponseEntity<byte[]> getActiveStoreSnapshot(
+            @Parameter(description = "매장 유형")
+            @RequestParam(required = false) Store.StoreType storeType,
+            @Parameter(description = "매장 카테고리")
+            @RequestParam(required = false) Store.StoreCategory category,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if (storeType != null && category != null) {
+            throw new InvalidValueException("storeType 과 category 는 함께 지정할 수 없습니다.");
         }
-        return ResponseEntity.ok(ApiResponse.success(stores));
+        StoreListSnapshotCache.View view = category != null
+                ? StoreListSnapshotCache.View.ofCategory(category)
+                : StoreListSnapshotCache.View.ofStoreType(storeType);
+        return snapshotResponse(view, acceptEncoding);
+    }
+
+    @Operation(summary = "운영중인 매장 검색",
+            description = "매장 유형, 카테고리, 본사, 개장일 범위, 매장명 접두어로 검색합니다. " +
+                    "매장 코드 순으로 정렬되며, 응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다.")
+    @GetMapping("/search")
+    public ResponseEntity<ApiResponse<CursorPage<StoreDto.Response>>> searchStores(
+            @ParameterObject @ModelAttribute StoreDto.SearchCondition condition,
+            @Parameter(description = "이전 페이지의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500)")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(storeService.searchStorePage(condition, cursor, size)));
+    }
+
+    @Operation(summary = "전체 매장 내보내기", description = "폐점 매장을 포함한 전체 매장을 NDJSON, CSV 또는 XLSX 로 스트리밍합니다.")
+    @GetMapping("/export")
+    public void exportStores(
+            @Parameter(description = "내보내기 형식 (NDJSON, CSV, XLSX)")
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            HttpServletResponse response) throws IOException {
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"stores." + format.getExtension() + "\"");
+        storeExportService.export(format, response.getOutputStream());
     }
 
     @Operation(summary = "최근 생성된 3개의 매장 조회")
     @GetMapping("/createdRecentStores")
     public ResponseEntity<ApiResponse<List<StoreDto.Response>>> getCreatedRecentStoredBy3() {
-        List<StoreDto.Response> stores = storeService.getAllActiveStores();
-        return ResponseEntity.ok(ApiResponse.success(stores));
+        return ResponseEntity.ok(ApiResponse.success(storeService.getCreatedRecentStoredBy3()));
     }
 
     @Operation(summary = "카테고리별 운영중인 매장 목록 조회")
     @GetMapping("/category/{category}")
-    public ResponseEntity<ApiResponse<List<StoreDto.Response>>> getStoresByCategory(
+    public ResponseEntity<ApiResponse<CursorPage<StoreDto.Response>>> getStoresByCategory(
             @Parameter(description = "매장 카테고리", required = true)
-            @PathVariable Store.StoreCategory category) {
-        return ResponseEntity.ok(ApiResponse.success(storeService.getActiveStoresByCategory(category)));
+            @PathVariable Store.StoreCategory category,
+            @Parameter(description = "이전 페이지의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500)")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(
+                storeService.searchStorePage(StoreDto.SearchCondition.ofCategory(category), cursor, size)));
     }
 
-    @Operation(summary = "본사 소속 가맹점 목록 조회", description = "특정 본사에 소속된 운영중인 가맹점 목록을 조회합니다.")
+    @Operation(summary = "본사 소속 가맹점 목록 조회", description = "특정 본사에 소속된 운영중인 가맹점 목록을 매장 코드 순 페이지로 조회합니다.")
     @GetMapping("/headquarter/{headquarterStoreCode}/franchises")
-    public ResponseEntity<ApiResponse<List<StoreDto.Response>>> getFranchiseStores(
+    public ResponseEntity<ApiResponse<CursorPage<StoreDto.Response>>> getFranchiseStores(
             @Parameter(description = "본사 매장 코드", required = true)
-            @PathVariable String headquarterStoreCode) {
+            @PathVariable String headquarterStoreCode,
+            @Parameter(description = "이전 페이지의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500)")
+            @RequestParam(defaultValue = "20") int size) {
         return ResponseEntity.ok(ApiResponse.success(
-                storeService.getActiveFranchiseStores(headquarterStoreCode)));
+                storeService.getActiveFranchiseStores(headquarterStoreCode, cursor, size)));
     }
 
-    @Operation(summary = "본사 매장 목록 조회", description = "운영중인 전체 본사 매장 목록을 조회합니다.")
+    @Operation(summary = "본사 매장 목록 조회", description = "운영중인 본사 매장 목록을 매장 코드 순 페이지로 조회합니다.")
     @GetMapping("/headquarters")
-    public ResponseEntity<ApiResponse<List<StoreDto.Response>>> getHeadquarterStores() {
-        List<StoreDto.Response> stores = storeService.getAllActiveStores();
-        List<StoreDto.Response> headquarters = stores.stream()
-                .filter(store -> store.storeType() == Store.StoreType.HEADQUARTER)
-                .toList();
-        return ResponseEntity.ok(ApiResponse.success(headquarters));
+    public ResponseEntity<ApiResponse<CursorPage<StoreDto.Response>>> getHeadquarterStores(
+            @Parameter(description = "이전 페이지의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500)")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(storeService.searchStorePage(
+                StoreDto.SearchCondition.ofStoreType(Store.StoreType.HEADQUARTER), cursor, size)));
     }
 
-    @Operation(summary = "가맹점 목록 조회", description = "운영중인 전체 가맹점 목록을 조회합니다.")
+    @Operation(summary = "가맹점 목록 조회", description = "운영중인 가맹점 목록을 매장 코드 순 페이지로 조회합니다.")
     @GetMapping("/franchises")
-    public ResponseEntity<ApiResponse<List<StoreDto.Response>>> getFranchiseStores() {
-        List<StoreDto.Response> stores = storeService.getAllActiveStores();
-        List<StoreDto.Response> franchises = stores.stream()
-                .filter(store -> store.storeType() == Store.StoreType.FRANCHISE)
-                .toList();
-        return ResponseEntity.ok(ApiResponse.success(franchises));
+    public ResponseEntity<ApiResponse<CursorPage<StoreDto.Response>>> getAllFranchiseStores(
+            @Parameter(description = "이전 페이지의 nextCursor")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 500)")
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(ApiResponse.success(storeService.searchStorePage(
+                StoreDto.SearchCondition.ofStoreType(Store.StoreType.FRANCHISE), cursor, size)));
+    }
+
+    // 직렬화된 스냅샷 본문을 그대로 응답. If-None-Match 가 ETag 와 일치하면 본문 없이 304 로 응답 (HttpEntityMethodProcessor)
+    private ResponseEntity<byte[]> snapshotResponse(StoreListSnapshotCache.View view, String acceptEncoding) {
+        StoreListSnapshotCache.Snapshot snapshot = storeListSnapshotCache.get(view);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+
+        if (snapshot.gzipBody() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+            return builder.eTag(snapshot.gzipEtag())
+                    .header(HttpHeaders.CONTENT_ENCODING, "gzip")
+                    .body(snapshot.gzipBody());
+        }
+        return builder.eTag(snapshot.etag()).body(snapshot.body());
     }
 }
\ No newline at end of file
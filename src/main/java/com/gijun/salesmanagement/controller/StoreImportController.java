@@ -0,0 +1,51 @@
+package com.gijun.salesmanagement.controller;
+
+import com.gijun.salesmanagement.dto.StoreImportDto;
+import com.gijun.salesmanagement.dto.common.ApiResponse;
+import com.gijun.salesmanagement.service.StoreImportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@Tag(name = "StoreImport", description = "매장 일괄 등록 API")
+@RestController
+@RequestMapping("/stores/import")
+@RequiredArgsConstructor
+public class StoreImportController {
+
+    private final StoreImportService storeImportService;
+
+    @Operation(summary = "매장 일괄 등록",
+            description = "CSV/XLSX 파일로 매장을 일괄 등록합니다. 열 순서: 매장명, 카테고리, 사업자번호, 개장일, 매장 유형, 본사 매장 코드 (첫 행은 헤더)")
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<StoreImportDto.Response>> startImport(
+            @Parameter(description = "업로드 파일", required = true)
+            @RequestParam MultipartFile file) {
+        return ResponseEntity.accepted().body(ApiResponse.success(storeImportService.startImport(file)));
+    }
+
+    @Operation(summary = "매장 일괄 등록 상태 조회")
+    @GetMapping("/{jobExecutionId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<StoreImportDto.Response>> getImport(
+            @Parameter(description = "작업 실행 ID", required = true)
+            @PathVariable Long jobExecutionId) {
+        return ResponseEntity.ok(ApiResponse.success(storeImportService.getImport(jobExecutionId)));
+    }
+
+    @Operation(summary = "매장 일괄 등록 재시작", description = "실패한 작업을 마지막으로 커밋된 지점부터 다시 실행합니다.")
+    @PostMapping("/{jobExecutionId}/restart")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ApiResponse<StoreImportDto.Response>> restartImport(
+            @Parameter(description = "작업 실행 ID", required = true)
+            @PathVariable Long jobExecutionId) {
+        return ResponseEntity.accepted().body(ApiResponse.success(storeImportService.restartImport(jobExecutionId)));
+    }
+}
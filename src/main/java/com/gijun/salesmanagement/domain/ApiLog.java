@@ -8,7 +8,7 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "api_logs")
+@Table(name = "api_logs", indexes = @Index(name = "idx_api_logs_created_at", columnList = "created_at"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ApiLog extends BaseEntity {
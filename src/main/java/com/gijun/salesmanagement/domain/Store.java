@@ -10,7 +10,11 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "stores")
+@Table(name = "stores", indexes = {
+        @Index(name = "idx_stores_close_type_category", columnList = "close_yn, store_type, category"),
+        @Index(name = "idx_stores_headquarter_close", columnList = "headquarter_id, close_yn"),
+        @Index(name = "idx_stores_close_code", columnList = "close_yn, store_code")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Store extends BaseEntity {
@@ -0,0 +1,37 @@
+package com.gijun.salesmanagement.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "store_code_sequences")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StoreCodeSequence {
+
+    @Id
+    @Column(length = 50)
+    private String name;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;  // 다음에 예약될 매장 코드 순번
+
+    public StoreCodeSequence(String name, Long nextValue) {
+        this.name = name;
+        this.nextValue = nextValue;
+    }
+
+    /**
+     * blockSize 만큼의 순번 구간을 예약하고 구간의 시작 순번을 반환합니다.
+     */
+    public long reserve(int blockSize) {
+        long start = this.nextValue;
+        this.nextValue = start + blockSize;
+        return start;
+    }
+}
@@ -1,6 +1,7 @@
 package com.gijun.salesmanagement.domain;
 
 import com.gijun.salesmanagement.domain.common.BaseEntity;
+import com.gijun.salesmanagement.event.UserChangedListener;
 import jakarta.persistence.*;
 import lombok.*;
 import org.springframework.security.core.GrantedAuthority;
@@ -13,6 +14,7 @@ import java.util.Objects;
 
 @Entity
 @Table(name = "users")
+@EntityListeners(UserChangedListener.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class User extends BaseEntity implements UserDetails {
@@ -40,10 +42,24 @@ public class User extends BaseEntity implements UserDetails {
     @Column(nullable = false)
     private boolean enabled = true;
 
+    // 저장 전까지의 변경 종류 (변경 이벤트 발행에만 사용, 저장하지 않음)
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private Change pendingChange;
+
     public enum Role {
         ROLE_USER, ROLE_ADMIN
     }
 
+    /**
+     * 변경 종류. 한 번의 저장에 여러 변경이 있으면 뒤에 선언된(영향이 큰) 종류로 기록합니다.
+     */
+    public enum Change {
+        PASSWORD_REHASH,  // 로그인 시 해시 strength 갱신 (비밀번호 자체는 같음)
+        PROFILE,          // 이름, 전화번호
+        SECURITY          // 권한, 활성 여부, 사용자의 비밀번호 변경
+    }
+
     @Builder(toBuilder = true)
     public User(String email, String password, String name, String phone, Role role) {
         this.email = Objects.requireNonNull(email, "이메일은 필수입니다.");
@@ -56,18 +72,45 @@ public class User extends BaseEntity implements UserDetails {
     public void updateProfile(String name, String phone) {
         this.name = Objects.requireNonNull(name, "이름은 필수입니다.");
         this.phone = Objects.requireNonNull(phone, "전화번호는 필수입니다.");
+        markChanged(Change.PROFILE);
     }
 
     public void updatePassword(String newPassword) {
         this.password = Objects.requireNonNull(newPassword, "비밀번호는 필수입니다.");
+        markChanged(Change.SECURITY);
+    }
+
+    /**
+     * 같은 비밀번호를 현재 설정의 strength 로 다시 해시한 값으로 교체합니다.
+     */
+    public void rehashPassword(String encodedPassword) {
+        this.password = Objects.requireNonNull(encodedPassword, "비밀번호는 필수입니다.");
+        markChanged(Change.PASSWORD_REHASH);
     }
 
     public void updateRole(Role role) {
         this.role = Objects.requireNonNull(role, "권한은 필수입니다.");
+        markChanged(Change.SECURITY);
     }
 
     public void setEnabled(boolean enabled) {
         this.enabled = enabled;
+        markChanged(Change.SECURITY);
+    }
+
+    /**
+     * @return 마지막 저장 이후의 변경 종류 (알 수 없으면 PROFILE). 반환 후 초기화합니다
+     */
+    public Change consumeChange() {
+        Change change = pendingChange != null ? pendingChange : Change.PROFILE;
+        pendingChange = null;
+        return change;
+    }
+
+    private void markChanged(Change change) {
+        if (pendingChange == null || change.compareTo(pendingChange) > 0) {
+            pendingChange = change;
+        }
     }
 
     @Override
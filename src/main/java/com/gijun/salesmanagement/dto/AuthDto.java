@@ -41,6 +41,11 @@ public record AuthDto() {
             String role
     ) {}
 
+    public record RefreshRequest(
+            @NotBlank(message = "리프레시 토큰은 필수입니다.")
+            String refreshToken
+    ) {}
+
     public record TokenResponse(
             String accessToken,
             String refreshToken
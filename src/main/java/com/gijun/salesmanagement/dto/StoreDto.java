@@ -4,6 +4,7 @@ import com.gijun.salesmanagement.domain.Store;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import org.springframework.format.annotation.DateTimeFormat;
 
 import java.time.LocalDate;
 
@@ -49,6 +50,32 @@ public record StoreDto() {
             LocalDate closeDate
     ) {}
 
+    public record SearchCondition(
+            Store.StoreType storeType,
+            Store.StoreCategory category,
+            String headquarterStoreCode,
+
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate openDateFrom,
+
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+            LocalDate openDateTo,
+
+            String storeNamePrefix
+    ) {
+        public static SearchCondition ofStoreType(Store.StoreType storeType) {
+            return new SearchCondition(storeType, null, null, null, null, null);
+        }
+
+        public static SearchCondition ofCategory(Store.StoreCategory category) {
+            return new SearchCondition(null, category, null, null, null, null);
+        }
+
+        public static SearchCondition ofHeadquarter(String headquarterStoreCode) {
+            return new SearchCondition(null, null, headquarterStoreCode, null, null, null);
+        }
+    }
+
     public record Response(
             String storeCode,
             String storeName,
@@ -84,4 +111,13 @@ public record StoreDto() {
             );
         }
     }
-}
\ No newline at end of file
+
+    // 본사 / 가맹점 관계 인덱스 구성용
+    public record HierarchyRow(
+            Long id,
+            String storeCode,
+            Store.StoreType storeType,
+            String headquarterStoreCode,
+            String closeYn
+    ) {}
+}
@@ -0,0 +1,41 @@
+package com.gijun.salesmanagement.dto;
+
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.event.StoreChangedEvent;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record StoreEventDto() {
+
+    public record Message(
+            StoreChangedEvent.ChangeType type,
+            String storeCode,
+            String storeName,
+            Store.StoreCategory category,
+            Store.StoreType storeType,
+            String headquarterStoreCode,
+            String closeYn,
+            LocalDateTime changedAt
+    ) {
+        public static Message from(StoreChangedEvent event) {
+            return new Message(
+                    event.type(),
+                    event.storeCode(),
+                    event.storeName(),
+                    event.category(),
+                    event.storeType(),
+                    event.headquarterStoreCode(),
+                    event.closeYn(),
+                    event.changedAt()
+            );
+        }
+    }
+
+    /**
+     * 한 번의 flush 주기 동안 모인 변경 (매장 코드별 마지막 상태만 포함)
+     */
+    public record Batch(
+            List<Message> events
+    ) {}
+}
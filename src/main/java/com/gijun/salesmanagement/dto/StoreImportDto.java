@@ -0,0 +1,17 @@
+package com.gijun.salesmanagement.dto;
+
+import java.time.LocalDateTime;
+
+public record StoreImportDto() {
+
+    public record Response(
+            Long jobExecutionId,
+            String status,
+            String exitCode,
+            String exitDescription,
+            long writeCount,
+            long skipCount,
+            LocalDateTime startTime,
+            LocalDateTime endTime
+    ) {}
+}
@@ -0,0 +1,23 @@
+package com.gijun.salesmanagement.dto.common;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 커서(keyset) 기반 페이지. 다음 페이지는 nextCursor 를 cursor 파라미터로 전달하여 조회합니다.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        String nextCursor,
+        boolean hasNext
+) {
+    /**
+     * size + 1 건을 조회한 결과로 페이지를 만듭니다. 초과분이 있으면 다음 페이지가 있는 것으로 판단합니다.
+     */
+    public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, String> cursorExtractor) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(content.get(content.size() - 1)) : null;
+        return new CursorPage<>(content, nextCursor, hasNext);
+    }
+}
@@ -0,0 +1,44 @@
+package com.gijun.salesmanagement.event;
+
+import com.gijun.salesmanagement.domain.Store;
+
+import java.time.LocalDateTime;
+
+/**
+ * 매장 등록 / 수정 / 폐점. 트랜잭션 커밋 이후 구독자에게 전달됩니다.
+ * 엔티티 대신 필요한 값만 담아 커밋 이후 지연 로딩이 일어나지 않도록 합니다.
+ */
+public record StoreChangedEvent(
+        ChangeType type,
+        Long storeId,                        // 일괄 등록(JDBC)인 경우 null
+        String storeCode,
+        String storeName,
+        Store.StoreCategory category,
+        Store.StoreCategory previousCategory, // 카테고리가 바뀐 경우 이전 값
+        Store.StoreType storeType,
+        Long headquarterId,
+        String headquarterStoreCode,
+        String closeYn,
+        LocalDateTime changedAt
+) {
+    public enum ChangeType {
+        CREATED, UPDATED, CLOSED
+    }
+
+    public static StoreChangedEvent of(ChangeType type, Store store, Store.StoreCategory previousCategory) {
+        Store headquarter = store.getHeadquarter();
+        return new StoreChangedEvent(
+                type,
+                store.getId(),
+                store.getStoreCode(),
+                store.getStoreName(),
+                store.getCategory(),
+                previousCategory != store.getCategory() ? previousCategory : null,
+                store.getStoreType(),
+                headquarter != null ? headquarter.getId() : null,
+                headquarter != null ? headquarter.getStoreCode() : null,
+                store.getCloseYn(),
+                LocalDateTime.now()
+        );
+    }
+}
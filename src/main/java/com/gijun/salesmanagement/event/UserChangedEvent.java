@@ -0,0 +1,8 @@
+package com.gijun.salesmanagement.event;
+
+/**
+ * 사용자 정보(프로필, 권한, 활성 여부 등)가 변경되거나 삭제됨
+ *
+ * @param securityChanged 권한, 활성 여부, 비밀번호가 변경되었거나 삭제된 경우 true (기존 인증 정보를 폐기해야 함)
+ */
+public record UserChangedEvent(Long userId, boolean securityChanged) {}
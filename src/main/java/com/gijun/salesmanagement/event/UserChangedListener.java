@@ -0,0 +1,32 @@
+package com.gijun.salesmanagement.event;
+
+import com.gijun.salesmanagement.domain.User;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * User 엔티티 변경을 {@link UserChangedEvent} 로 발행하는 JPA 엔티티 리스너.
+ * 로그인 시 해시 strength 갱신은 사용자 정보가 바뀐 것이 아니므로 발행하지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserChangedListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    @PostUpdate
+    public void onUpdated(User user) {
+        User.Change change = user.consumeChange();
+        if (change != User.Change.PASSWORD_REHASH) {
+            eventPublisher.publishEvent(new UserChangedEvent(user.getId(), change == User.Change.SECURITY));
+        }
+    }
+
+    @PostRemove
+    public void onRemoved(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getId(), true));
+    }
+}
@@ -79,6 +79,7 @@ public class GlobalExceptionHandler {
             case "E403" -> HttpStatus.FORBIDDEN;
             case "E404" -> HttpStatus.NOT_FOUND;
             case "E409" -> HttpStatus.CONFLICT;
+            case "E503" -> HttpStatus.SERVICE_UNAVAILABLE;
             default -> HttpStatus.INTERNAL_SERVER_ERROR;
         };
     }
@@ -0,0 +1,7 @@
+package com.gijun.salesmanagement.exception;
+
+public class ServiceUnavailableException extends BusinessException {
+    public ServiceUnavailableException(String message) {
+        super(message, "E503");
+    }
+}
@@ -1,86 +1,93 @@
 package com.gijun.salesmanagement.interceptor;
 
 import com.gijun.salesmanagement.domain.ApiLog;
-import com.gijun.salesmanagement.repository.ApiLogRepository;
+import com.gijun.salesmanagement.monitoring.EndpointLatencyRecorder;
+import com.gijun.salesmanagement.security.UserPrincipal;
+import com.gijun.salesmanagement.service.ApiLogWriter;
+import com.gijun.salesmanagement.util.ClientIpUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerMapping;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 
 import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Component
 @RequiredArgsConstructor
 public class ApiLogInterceptor implements HandlerInterceptor {
 
-    private final ApiLogRepository apiLogRepository;
+    static final String START_NANOS_ATTRIBUTE = ApiLogInterceptor.class.getName() + ".startNanos";
+
+    private final ApiLogWriter apiLogWriter;
+    private final EndpointLatencyRecorder latencyRecorder;
     private static final int MAX_CONTENT_LENGTH = 3900; // 여유를 둔 최대 길이
 
     @Override
     public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
-        if (request instanceof ContentCachingRequestWrapper requestWrapper && response instanceof ContentCachingResponseWrapper responseWrapper) {
+        if (!(request.getAttribute(START_NANOS_ATTRIBUTE) instanceof Long startNanos)) {
+            return;
+        }
+        long durationNanos = System.nanoTime() - startNanos;
 
-            String requestBody = new String(requestWrapper.getContentAsByteArray());
-            String responseBody = new String(responseWrapper.getContentAsByteArray());
+        // 경로 변수 값이 아닌 매핑된 URI 템플릿 기준으로 집계
+        latencyRecorder.record(request.getMethod(),
+                (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE),
+                durationNanos, ex != null || response.getStatus() >= 500);
 
-            // 요청 파라미터 수집
-            String requestParams = request.getParameterMap().entrySet().stream()
-                    .map(entry -> entry.getKey() + "=" + Arrays.toString(entry.getValue()))
-                    .collect(Collectors.joining(", "));
+        if (request instanceof ContentCachingRequestWrapper requestWrapper && response instanceof ContentCachingResponseWrapper responseWrapper) {
+            // DB 저장은 백그라운드 writer 가 배치로 처리
+            apiLogWriter.enqueue(buildApiLog(requestWrapper, responseWrapper, ex, durationNanos));
+        }
+    }
 
-            // 현재 인증된 사용자 ID 가져오기
-            Long userId = null;
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null && authentication.isAuthenticated()) {
-                // Principal에서 userId를 가져오는 로직 구현
-                // userId = ((YourUserPrincipal) authentication.getPrincipal()).getId();
-            }
+    ApiLog buildApiLog(ContentCachingRequestWrapper request, ContentCachingResponseWrapper response,
+                       Exception ex, long durationNanos) {
+        String requestBody = new String(request.getContentAsByteArray());
+        String responseBody = new String(response.getContentAsByteArray());
 
-            ApiLog apiLog = ApiLog.builder()
-                    .requestUri(request.getRequestURI())
-                    .method(request.getMethod())
-                    .clientIp(getClientIp(request))
-                    .userAgent(request.getHeader("User-Agent"))
-                    .requestParams(truncateContent(requestParams))
-                    .requestBody(truncateContent(requestBody))
-                    .responseBody(truncateContent(responseBody))
-                    .statusCode(response.getStatus())
-                    .processingTime(System.currentTimeMillis() - (Long) request.getAttribute("startTime"))
-                    .userId(userId)
-                    .errorMessage(ex != null ? truncateContent(ex.getMessage()) : null)
-                    .status(response.getStatus() < 400 ? ApiLog.LogStatus.SUCCESS : ApiLog.LogStatus.FAIL)
-                    .build();
+        // 요청 파라미터 수집
+        String requestParams = request.getParameterMap().entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + Arrays.toString(entry.getValue()))
+                .collect(Collectors.joining(", "));
 
-            apiLogRepository.save(apiLog);
+        // 현재 인증된 사용자 ID 가져오기
+        Long userId = null;
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            userId = principal.getId();
         }
+
+        return ApiLog.builder()
+                .requestUri(request.getRequestURI())
+                .method(request.getMethod())
+                .clientIp(ClientIpUtils.getClientIp(request))
+                .userAgent(request.getHeader("User-Agent"))
+                .requestParams(truncateContent(requestParams))
+                .requestBody(truncateContent(requestBody))
+                .responseBody(truncateContent(responseBody))
+                .statusCode(response.getStatus())
+                .processingTime(TimeUnit.NANOSECONDS.toMillis(durationNanos))
+                .userId(userId)
+                .errorMessage(ex != null ? truncateContent(ex.getMessage()) : null)
+                .status(response.getStatus() < 400 ? ApiLog.LogStatus.SUCCESS : ApiLog.LogStatus.FAIL)
+                .build();
     }
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
-        request.setAttribute("startTime", System.currentTimeMillis());
+        request.setAttribute(START_NANOS_ATTRIBUTE, System.nanoTime());
         return true;
     }
 
-    private String getClientIp(HttpServletRequest request) {
-        String clientIp = request.getHeader("X-Forwarded-For");
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("Proxy-Client-IP");
-        }
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (clientIp == null || clientIp.isEmpty() || "unknown".equalsIgnoreCase(clientIp)) {
-            clientIp = request.getRemoteAddr();
-        }
-        return clientIp;
-    }
-
     private String truncateContent(String content) {
         if (content == null) return null;
         return content.length() > MAX_CONTENT_LENGTH ?
@@ -0,0 +1,31 @@
+package com.gijun.salesmanagement.interceptor;
+
+import com.gijun.salesmanagement.monitoring.SqlProfiler;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 동안 실행된 SQL 을 "METHOD URI 템플릿" 엔드포인트에 연결하고, 요청 종료 시 N+1 패턴을 판단합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class SqlProfilingInterceptor implements HandlerInterceptor {
+
+    private final SqlProfiler sqlProfiler;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        sqlProfiler.beginRequest(request.getMethod() + " " + (pattern != null ? pattern : request.getRequestURI()));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        sqlProfiler.endRequest();
+    }
+}
@@ -0,0 +1,58 @@
+package com.gijun.salesmanagement.monitoring;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 메서드 + URI 템플릿(/stores/{storeCode}) 별 응답 시간 히스토그램.
+ * 템플릿 단위로 집계하므로 경로 변수 값이 달라도 하나의 히스토그램을 사용하며, 최초 요청 이후에는 조회와 기록 모두 객체를 생성하지 않습니다.
+ */
+@Component
+public class EndpointLatencyRecorder {
+
+    static final String UNMATCHED = "UNMATCHED";
+    private static final int MAX_ENDPOINTS = 1000;
+
+    // System.nanoTime() 은 음수일 수 있으므로 기준 시각으로부터의 경과 시간을 사용
+    private final long originNanos = System.nanoTime();
+
+    // URI 템플릿 → (HTTP 메서드 → 히스토그램)
+    private final ConcurrentHashMap<String, ConcurrentHashMap<String, SlidingWindowHistogram>> histograms =
+            new ConcurrentHashMap<>();
+
+    public void record(String method, String uriTemplate, long durationNanos, boolean error) {
+        String template = uriTemplate != null ? uriTemplate : UNMATCHED;
+        ConcurrentHashMap<String, SlidingWindowHistogram> byMethod = histograms.get(template);
+        if (byMethod == null) {
+            if (histograms.size() >= MAX_ENDPOINTS) {
+                template = UNMATCHED;  // 템플릿 수가 비정상적으로 늘어나는 경우 메모리 보호
+            }
+            byMethod = histograms.computeIfAbsent(template, key -> new ConcurrentHashMap<>());
+        }
+
+        SlidingWindowHistogram histogram = byMethod.get(method);
+        if (histogram == null) {
+            histogram = byMethod.computeIfAbsent(method, key -> new SlidingWindowHistogram());
+        }
+        histogram.record(durationNanos, error, System.nanoTime() - originNanos);
+    }
+
+    /**
+     * @return "METHOD 템플릿" → 집계 결과 (키 순 정렬)
+     */
+    public Map<String, SlidingWindowHistogram.Snapshot> snapshot(long window, TimeUnit unit) {
+        long now = System.nanoTime() - originNanos;
+        Map<String, SlidingWindowHistogram.Snapshot> result = new TreeMap<>();
+        histograms.forEach((template, byMethod) -> byMethod.forEach((method, histogram) -> {
+            SlidingWindowHistogram.Snapshot snapshot = histogram.snapshot(window, unit, now);
+            if (snapshot.count() > 0) {
+                result.put(method + " " + template, snapshot);
+            }
+        }));
+        return result;
+    }
+}
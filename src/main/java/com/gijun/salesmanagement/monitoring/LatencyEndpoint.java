@@ -0,0 +1,43 @@
+package com.gijun.salesmanagement.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * /actuator/latency : 엔드포인트별 최근 1분 / 5분 / 15분 p50, p95, p99, 최대 응답 시간(ms)과 오류율.
+ * /actuator/latency/{window} 로 한 구간(1m, 5m, 15m)만 조회할 수 있습니다.
+ */
+@Component
+@Endpoint(id = "latency")
+@RequiredArgsConstructor
+public class LatencyEndpoint {
+
+    private static final Map<String, Integer> WINDOWS_MINUTES = Map.of("1m", 1, "5m", 5, "15m", 15);
+
+    private final EndpointLatencyRecorder recorder;
+
+    @ReadOperation
+    public Map<String, Map<String, SlidingWindowHistogram.Snapshot>> latency() {
+        Map<String, Map<String, SlidingWindowHistogram.Snapshot>> result = new LinkedHashMap<>();
+        result.put("1m", recorder.snapshot(1, TimeUnit.MINUTES));
+        result.put("5m", recorder.snapshot(5, TimeUnit.MINUTES));
+        result.put("15m", recorder.snapshot(15, TimeUnit.MINUTES));
+        return result;
+    }
+
+    @ReadOperation
+    public Map<String, SlidingWindowHistogram.Snapshot> latencyWindow(@Selector String window) {
+        Integer minutes = WINDOWS_MINUTES.get(window);
+        if (minutes == null) {
+            return null;  // 404
+        }
+        return recorder.snapshot(minutes, TimeUnit.MINUTES);
+    }
+}
@@ -0,0 +1,87 @@
+package com.gijun.salesmanagement.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서비스 계층 public 메서드의 실행 시간을 app.method 타이머로 기록합니다.
+ * 태그: class, method, outcome(success / error), exception(예외 클래스명, 정상이면 none).
+ * 타이머 개수가 곧 호출 수이므로 outcome 별 호출 / 오류 건수도 같은 시계열로 확인할 수 있습니다.
+ */
+@Aspect
+@Component
+public class MethodTimingAspect {
+
+    static final String METRIC_NAME = "app.method";
+
+    private final MeterRegistry meterRegistry;
+
+    // 메서드별 타이머 캐시. 정상 / 예외 모두 최초 이후에는 레지스트리 조회와 객체 생성 없이 기록
+    private final ConcurrentHashMap<Method, MethodTimers> timers = new ConcurrentHashMap<>();
+
+    private final class MethodTimers {
+        private final Method method;
+        private final Timer success;
+        private final ConcurrentHashMap<Class<?>, Timer> errors = new ConcurrentHashMap<>();
+
+        private MethodTimers(Method method) {
+            this.method = method;
+            this.success = timer(method, "success", "none");
+        }
+
+        private Timer error(Class<?> exceptionClass) {
+            Timer timer = errors.get(exceptionClass);
+            if (timer == null) {
+                timer = errors.computeIfAbsent(exceptionClass, key -> timer(method, "error", key.getSimpleName()));
+            }
+            return timer;
+        }
+    }
+
+    public MethodTimingAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("execution(public * com.gijun.salesmanagement.service.StoreService.*(..))"
+            + " || execution(public * com.gijun.salesmanagement.service.AuthService.*(..))"
+            + " || execution(public * com.gijun.salesmanagement.service.UserService.*(..))"
+            + " || execution(public * com.gijun.salesmanagement.service.StoreCodeGenerator.*(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            timersFor(method).success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            timersFor(method).error(e.getClass()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            throw e;
+        }
+    }
+
+    private MethodTimers timersFor(Method method) {
+        MethodTimers methodTimers = timers.get(method);
+        if (methodTimers == null) {
+            methodTimers = timers.computeIfAbsent(method, MethodTimers::new);
+        }
+        return methodTimers;
+    }
+
+    private Timer timer(Method method, String outcome, String exception) {
+        return Timer.builder(METRIC_NAME)
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+}
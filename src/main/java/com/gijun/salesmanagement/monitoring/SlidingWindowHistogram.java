@@ -0,0 +1,132 @@
+package com.gijun.salesmanagement.monitoring;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 최근 구간의 응답 시간 분포를 유지하는 log-linear 히스토그램.
+ * 시간을 SLICE 단위 조각으로 나눈 링 버퍼이며, 조각마다 2의 거듭제곱 구간을 8등분한 버킷(상대 오차 12.5% 이내)을 가집니다.
+ * 기록은 원자적 증가만 사용하므로 락과 객체 생성이 없습니다.
+ * 오래된 조각을 재사용할 때 동시에 기록된 값 일부가 지워질 수 있으며, 모니터링 용도로는 허용합니다.
+ */
+public class SlidingWindowHistogram {
+
+    static final long SLICE_NANOS = TimeUnit.SECONDS.toNanos(15);
+    static final int SLICE_COUNT = 61;   // 15분 + 현재 조각
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 36;  // 2^37 µs (약 38시간) 이상은 마지막 버킷
+    private static final long MAX_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+    static final int BUCKET_COUNT = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final Slice[] slices = new Slice[SLICE_COUNT];
+
+    private static final class Slice {
+        private final AtomicLong epoch = new AtomicLong(-1);
+        private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicLong errors = new AtomicLong();
+        private final AtomicLong max = new AtomicLong();
+    }
+
+    public record Snapshot(long count, long errors, double errorRate,
+                           double p50Ms, double p95Ms, double p99Ms, double maxMs) {}
+
+    public SlidingWindowHistogram() {
+        for (int i = 0; i < SLICE_COUNT; i++) {
+            slices[i] = new Slice();
+        }
+    }
+
+    public void record(long durationNanos, boolean error, long nowNanos) {
+        long micros = Math.min(Math.max(durationNanos / 1_000, 0), MAX_VALUE);
+        Slice slice = currentSlice(nowNanos / SLICE_NANOS);
+
+        slice.buckets.incrementAndGet(bucketIndex(micros));
+        slice.count.incrementAndGet();
+        if (error) {
+            slice.errors.incrementAndGet();
+        }
+        slice.max.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * @param window 집계 구간. 현재 진행 중인 조각을 포함하므로 실제 구간은 최대 SLICE 만큼 더 깁니다.
+     */
+    public Snapshot snapshot(long window, TimeUnit unit, long nowNanos) {
+        long currentEpoch = nowNanos / SLICE_NANOS;
+        long oldestEpoch = currentEpoch - Math.min(unit.toNanos(window) / SLICE_NANOS, SLICE_COUNT - 1);
+
+        long[] buckets = new long[BUCKET_COUNT];
+        long count = 0;
+        long errors = 0;
+        long max = 0;
+        for (Slice slice : slices) {
+            long epoch = slice.epoch.get();
+            if (epoch < oldestEpoch || epoch > currentEpoch) {
+                continue;
+            }
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                buckets[i] += slice.buckets.get(i);
+            }
+            count += slice.count.get();
+            errors += slice.errors.get();
+            max = Math.max(max, slice.max.get());
+        }
+
+        return new Snapshot(count, errors, count > 0 ? (double) errors / count : 0,
+                percentile(buckets, count, 0.50, max), percentile(buckets, count, 0.95, max),
+                percentile(buckets, count, 0.99, max), max / 1_000.0);
+    }
+
+    private Slice currentSlice(long epoch) {
+        Slice slice = slices[(int) (epoch % SLICE_COUNT)];
+        long sliceEpoch = slice.epoch.get();
+        if (sliceEpoch < epoch && slice.epoch.compareAndSet(sliceEpoch, epoch)) {
+            // 이 조각을 가져간 스레드만 이전 값을 비움
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                slice.buckets.set(i, 0);
+            }
+            slice.count.set(0);
+            slice.errors.set(0);
+            slice.max.set(0);
+        }
+        return slice;
+    }
+
+    static double percentile(long[] buckets, long count, double quantile, long maxMicros) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(quantile * count);
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets[i];
+            if (seen >= rank) {
+                return Math.min(bucketUpperBound(i), maxMicros) / 1_000.0;
+            }
+        }
+        return maxMicros / 1_000.0;
+    }
+
+    static int bucketIndex(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+        int subBucket = index % SUB_BUCKETS;
+        long width = 1L << (exponent - SUB_BUCKET_BITS);
+        return ((long) (SUB_BUCKETS + subBucket) << (exponent - SUB_BUCKET_BITS)) + width - 1;
+    }
+}
@@ -0,0 +1,49 @@
+package com.gijun.salesmanagement.monitoring;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * /actuator/sql
+ * GET    : 총 실행 시간 순 SQL fingerprint 통계, N+1 의심 목록, 최근 느린 쿼리 (limit 기본 50)
+ * POST   : sampleRate / slowQueryThresholdMs 변경 (재시작 없이 저부하 표본 모드로 전환)
+ * DELETE : 통계 초기화
+ */
+@Component
+@Endpoint(id = "sql")
+@RequiredArgsConstructor
+public class SqlEndpoint {
+
+    private static final int DEFAULT_LIMIT = 50;
+
+    private final SqlProfiler sqlProfiler;
+
+    @ReadOperation
+    public Map<String, Object> sql(@Nullable Integer limit) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("sampleRate", sqlProfiler.getSampleRate());
+        result.put("slowQueryThresholdMs", sqlProfiler.getSlowQueryThresholdMs());
+        result.put("statements", sqlProfiler.statements(limit != null ? limit : DEFAULT_LIMIT));
+        result.put("nPlusOne", sqlProfiler.nPlusOnes());
+        result.put("slowQueries", sqlProfiler.slowQueries());
+        return result;
+    }
+
+    @WriteOperation
+    public void configure(@Nullable Double sampleRate, @Nullable Long slowQueryThresholdMs) {
+        sqlProfiler.configure(sampleRate, slowQueryThresholdMs);
+    }
+
+    @DeleteOperation
+    public void reset() {
+        sqlProfiler.reset();
+    }
+}
@@ -0,0 +1,92 @@
+package com.gijun.salesmanagement.monitoring;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * SQL 을 리터럴과 바인딩 값에 관계없이 같은 형태로 정규화합니다.
+ * 문자열 / 숫자 리터럴은 ?, 연속 공백은 공백 하나, IN (?, ?, ...) 목록은 IN (?+) 로 바꾸고 소문자로 통일합니다.
+ * Hibernate 는 같은 SQL 문자열을 반복해서 사용하므로 원문별 결과를 캐시합니다.
+ */
+final class SqlFingerprint {
+
+    private static final int MAX_CACHED = 10_000;
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\?(?:\\s*,\\s*\\?)+\\)");
+
+    private static final ConcurrentHashMap<String, String> CACHE = new ConcurrentHashMap<>();
+
+    private SqlFingerprint() {
+    }
+
+    static String of(String sql) {
+        String fingerprint = CACHE.get(sql);
+        if (fingerprint == null) {
+            fingerprint = normalize(sql);
+            if (CACHE.size() < MAX_CACHED) {
+                CACHE.put(sql, fingerprint);
+            }
+        }
+        return fingerprint;
+    }
+
+    static String normalize(String sql) {
+        StringBuilder out = new StringBuilder(sql.length());
+        boolean pendingSpace = false;
+        int i = 0;
+        int length = sql.length();
+
+        while (i < length) {
+            char c = sql.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                pendingSpace = out.length() > 0;
+                i++;
+                continue;
+            }
+            if (pendingSpace) {
+                out.append(' ');
+                pendingSpace = false;
+            }
+
+            if (c == '\'') {
+                i = skipStringLiteral(sql, i + 1);
+                out.append('?');
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else {
+                out.append(Character.toLowerCase(c));
+                i++;
+            }
+        }
+        return PARAMETER_LIST.matcher(out).replaceAll("(?+)");
+    }
+
+    // 닫는 따옴표 다음 위치. '' 와 \' 는 문자열의 일부
+    private static int skipStringLiteral(String sql, int i) {
+        while (i < sql.length()) {
+            char c = sql.charAt(i++);
+            if (c == '\\') {
+                i++;
+            } else if (c == '\'') {
+                if (i < sql.length() && sql.charAt(i) == '\'') {
+                    i++;
+                } else {
+                    return i;
+                }
+            }
+        }
+        return i;
+    }
+
+    // s1_0, t2 처럼 식별자 안의 숫자는 유지
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+}
@@ -0,0 +1,243 @@
+package com.gijun.salesmanagement.monitoring;
+
+import com.gijun.salesmanagement.config.SqlProfilingProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실행된 SQL 을 fingerprint 별로 집계합니다 (실행 횟수, 시간 분포, 행 수, 실행한 엔드포인트).
+ * 요청 단위로 같은 SELECT 의 반복 실행을 세어 N+1 패턴을 요청한 엔드포인트와 함께 기록합니다.
+ * sampleRate 가 1 보다 작으면 실행 횟수만 모두 세고, 시간 / 행 수는 표본만 기록합니다.
+ */
+@Slf4j
+@Component
+public class SqlProfiler {
+
+    static final String NO_ENDPOINT = "(background)";
+    private static final int MAX_ENDPOINTS_PER_STATEMENT = 20;
+
+    private final SqlProfilingProperties properties;
+    private final ConcurrentHashMap<String, StatementStats> statements = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, NPlusOneStats> nPlusOnes = new ConcurrentHashMap<>();
+    private final ArrayDeque<SlowQuery> slowQueries = new ArrayDeque<>();
+    private final ThreadLocal<RequestContext> requestContext = new ThreadLocal<>();
+    private final Counter nPlusOneCounter;
+
+    private volatile double sampleRate;
+    private volatile long slowQueryThresholdNanos;
+
+    public SqlProfiler(SqlProfilingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.sampleRate = properties.getSampleRate();
+        this.slowQueryThresholdNanos = properties.getSlowQueryThresholdMs() * 1_000_000;
+        this.nPlusOneCounter = Counter.builder("sql.n_plus_one").register(meterRegistry);
+    }
+
+    public record SlowQuery(String fingerprint, String endpoint, double elapsedMs, LocalDateTime executedAt) {}
+
+    public record StatementSnapshot(String fingerprint, long count, long sampled, double totalMs, double meanMs,
+                                    double p50Ms, double p95Ms, double p99Ms, double maxMs,
+                                    long rows, Map<String, Long> endpoints) {}
+
+    public record NPlusOneSnapshot(String endpoint, String fingerprint, long occurrences, long maxPerRequest) {}
+
+    private record RequestContext(String endpoint, Map<String, int[]> counts) {}
+
+    private static final class StatementStats {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder sampled = new LongAdder();
+        private final LongAdder totalMicros = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final AtomicLong maxMicros = new AtomicLong();
+        private final AtomicLongArray buckets = new AtomicLongArray(SlidingWindowHistogram.BUCKET_COUNT);
+        private final ConcurrentHashMap<String, LongAdder> endpoints = new ConcurrentHashMap<>();
+    }
+
+    private static final class NPlusOneStats {
+        private final LongAdder occurrences = new LongAdder();
+        private final AtomicLong maxPerRequest = new AtomicLong();
+    }
+
+    public void beginRequest(String endpoint) {
+        requestContext.set(new RequestContext(endpoint, new HashMap<>()));
+    }
+
+    public void endRequest() {
+        RequestContext context = requestContext.get();
+        requestContext.remove();
+        if (context == null) {
+            return;
+        }
+
+        context.counts().forEach((fingerprint, count) -> {
+            if (count[0] < properties.getRepeatedQueryThreshold() || !fingerprint.startsWith("select")) {
+                return;
+            }
+            NPlusOneStats stats = nPlusOnes.computeIfAbsent(context.endpoint() + '\n' + fingerprint, key -> {
+                log.warn("N+1 의심: {} 에서 같은 쿼리 {}회 실행 - {}", context.endpoint(), count[0], fingerprint);
+                return new NPlusOneStats();
+            });
+            stats.occurrences.increment();
+            stats.maxPerRequest.accumulateAndGet(count[0], Math::max);
+            nPlusOneCounter.increment();
+        });
+    }
+
+    /**
+     * @return 시간 / 행 수를 기록할 대상이면 해당 fingerprint, 아니면 null
+     */
+    String recordExecution(String sql) {
+        String fingerprint = SqlFingerprint.of(sql);
+        RequestContext context = requestContext.get();
+        if (context != null) {
+            context.counts().computeIfAbsent(fingerprint, key -> new int[1])[0]++;
+        }
+
+        StatementStats stats = stats(fingerprint);
+        if (stats == null) {
+            return null;
+        }
+        stats.count.increment();
+
+        double rate = sampleRate;
+        return rate >= 1.0 || ThreadLocalRandom.current().nextDouble() < rate ? fingerprint : null;
+    }
+
+    void recordTiming(String fingerprint, long elapsedNanos, long rows) {
+        StatementStats stats = statements.get(fingerprint);
+        if (stats == null) {
+            return;
+        }
+        long micros = elapsedNanos / 1_000;
+        stats.sampled.increment();
+        stats.totalMicros.add(micros);
+        stats.rows.add(rows);
+        stats.maxMicros.accumulateAndGet(micros, Math::max);
+        stats.buckets.incrementAndGet(SlidingWindowHistogram.bucketIndex(micros));
+
+        String endpoint = currentEndpoint();
+        LongAdder endpointCount = stats.endpoints.get(endpoint);
+        if (endpointCount == null && stats.endpoints.size() < MAX_ENDPOINTS_PER_STATEMENT) {
+            endpointCount = stats.endpoints.computeIfAbsent(endpoint, key -> new LongAdder());
+        }
+        if (endpointCount != null) {
+            endpointCount.increment();
+        }
+
+        if (elapsedNanos >= slowQueryThresholdNanos) {
+            double elapsedMs = elapsedNanos / 1_000_000.0;
+            log.warn("느린 쿼리 {}ms ({}): {}", elapsedMs, endpoint, fingerprint);
+            synchronized (slowQueries) {
+                if (slowQueries.size() >= properties.getSlowQueryHistorySize()) {
+                    slowQueries.removeFirst();
+                }
+                slowQueries.addLast(new SlowQuery(fingerprint, endpoint, elapsedMs, LocalDateTime.now()));
+            }
+        }
+    }
+
+    void recordRows(String fingerprint, long rows) {
+        StatementStats stats = statements.get(fingerprint);
+        if (stats != null) {
+            stats.rows.add(rows);
+        }
+    }
+
+    private StatementStats stats(String fingerprint) {
+        StatementStats stats = statements.get(fingerprint);
+        if (stats == null && statements.size() < properties.getMaxFingerprints()) {
+            stats = statements.computeIfAbsent(fingerprint, key -> new StatementStats());
+        }
+        return stats;
+    }
+
+    private String currentEndpoint() {
+        RequestContext context = requestContext.get();
+        return context != null ? context.endpoint() : NO_ENDPOINT;
+    }
+
+    public List<StatementSnapshot> statements(int limit) {
+        return statements.entrySet().stream()
+                .map(entry -> toSnapshot(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingDouble(StatementSnapshot::totalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<NPlusOneSnapshot> nPlusOnes() {
+        return nPlusOnes.entrySet().stream()
+                .map(entry -> {
+                    String[] key = entry.getKey().split("\n", 2);
+                    return new NPlusOneSnapshot(key[0], key[1],
+                            entry.getValue().occurrences.sum(), entry.getValue().maxPerRequest.get());
+                })
+                .sorted(Comparator.comparingLong(NPlusOneSnapshot::occurrences).reversed())
+                .toList();
+    }
+
+    public List<SlowQuery> slowQueries() {
+        synchronized (slowQueries) {
+            return List.copyOf(slowQueries);
+        }
+    }
+
+    public double getSampleRate() {
+        return sampleRate;
+    }
+
+    public long getSlowQueryThresholdMs() {
+        return slowQueryThresholdNanos / 1_000_000;
+    }
+
+    public void configure(Double sampleRate, Long slowQueryThresholdMs) {
+        if (sampleRate != null) {
+            this.sampleRate = Math.min(Math.max(sampleRate, 0.0), 1.0);
+        }
+        if (slowQueryThresholdMs != null) {
+            this.slowQueryThresholdNanos = Math.max(slowQueryThresholdMs, 0) * 1_000_000;
+        }
+    }
+
+    public void reset() {
+        statements.clear();
+        nPlusOnes.clear();
+        synchronized (slowQueries) {
+            slowQueries.clear();
+        }
+    }
+
+    private StatementSnapshot toSnapshot(String fingerprint, StatementStats stats) {
+        long count = stats.count.sum();
+        long sampled = stats.sampled.sum();
+        long max = stats.maxMicros.get();
+        long[] buckets = new long[SlidingWindowHistogram.BUCKET_COUNT];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = stats.buckets.get(i);
+        }
+
+        // 표본 기준 평균에 전체 실행 횟수를 곱해 총 시간을 추정
+        double meanMs = sampled > 0 ? stats.totalMicros.sum() / 1_000.0 / sampled : 0;
+        Map<String, Long> endpoints = new HashMap<>();
+        stats.endpoints.forEach((endpoint, adder) -> endpoints.put(endpoint, adder.sum()));
+
+        return new StatementSnapshot(fingerprint, count, sampled, meanMs * count, meanMs,
+                SlidingWindowHistogram.percentile(buckets, sampled, 0.50, max),
+                SlidingWindowHistogram.percentile(buckets, sampled, 0.95, max),
+                SlidingWindowHistogram.percentile(buckets, sampled, 0.99, max),
+                max / 1_000.0, stats.rows.sum(), endpoints);
+    }
+}
@@ -0,0 +1,116 @@
+package com.gijun.salesmanagement.monitoring;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+/**
+ * datasource-proxy 이벤트를 {@link SqlProfiler} 로 전달합니다.
+ * 실행 시간은 nanoTime 으로 직접 측정하고, 조회 행 수는 ResultSet.next() 호출을 세어 close 시점에 반영합니다.
+ * SqlProfiler 는 DataSource 생성 이후에 준비되므로 처음 사용할 때 조회합니다.
+ */
+public class SqlProfilingListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final String START_NANOS = "sqlProfiling.startNanos";
+    private static final String FINGERPRINT = "sqlProfiling.fingerprint";
+
+    private final ObjectProvider<SqlProfiler> profilerProvider;
+    private volatile SqlProfiler profiler;
+
+    // 현재 스레드에서 읽고 있는 ResultSet 의 fingerprint 와 행 수
+    private final ThreadLocal<ResultSetRows> resultSetRows = new ThreadLocal<>();
+
+    private static final class ResultSetRows {
+        private String fingerprint;
+        private long rows;
+    }
+
+    public SqlProfilingListener(ObjectProvider<SqlProfiler> profilerProvider) {
+        this.profilerProvider = profilerProvider;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlProfiler current = profiler();
+        if (current == null || queryInfoList.isEmpty()) {
+            return;
+        }
+        // 배치 실행은 첫 문장 기준으로 집계 (Hibernate 배치는 같은 문장의 반복)
+        String fingerprint = current.recordExecution(queryInfoList.get(0).getQuery());
+        if (fingerprint != null) {
+            execInfo.addCustomValue(FINGERPRINT, fingerprint);
+            execInfo.addCustomValue(START_NANOS, System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        String fingerprint = execInfo.getCustomValue(FINGERPRINT, String.class);
+        Long startNanos = execInfo.getCustomValue(START_NANOS, Long.class);
+        if (fingerprint == null || startNanos == null) {
+            return;
+        }
+
+        long elapsedNanos = System.nanoTime() - startNanos;
+        Object result = execInfo.getResult();
+        if (result instanceof ResultSet) {
+            // 행 수는 ResultSet 을 다 읽은 뒤 반영
+            ResultSetRows rows = new ResultSetRows();
+            rows.fingerprint = fingerprint;
+            resultSetRows.set(rows);
+        }
+        profiler.recordTiming(fingerprint, elapsedNanos, updatedRows(result));
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        ResultSetRows rows = resultSetRows.get();
+        if (rows == null) {
+            return;
+        }
+
+        String methodName = executionContext.getMethod().getName();
+        if ("next".equals(methodName) && Boolean.TRUE.equals(executionContext.getResult())) {
+            rows.rows++;
+        } else if ("close".equals(methodName)) {
+            resultSetRows.remove();
+            profiler.recordRows(rows.fingerprint, rows.rows);
+        }
+    }
+
+    private SqlProfiler profiler() {
+        SqlProfiler current = profiler;
+        if (current == null) {
+            current = profilerProvider.getIfAvailable();
+            profiler = current;
+        }
+        return current;
+    }
+
+    private long updatedRows(Object result) {
+        if (result instanceof Integer count) {
+            return Math.max(count, 0);
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                sum += Math.max(count, 0);
+            }
+            return sum;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,98 @@
+package com.gijun.salesmanagement.monitoring;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가상 스레드가 carrier 스레드에 고정(pinning)되는 구간을 JFR 이벤트로 감지합니다.
+ * synchronized 블록 안에서 I/O 를 기다리는 드라이버 코드 등이 원인이며, 고정된 동안에는 carrier 를 다른 가상 스레드가 사용할 수 없습니다.
+ * 고정 시간은 jvm.threads.virtual.pinned 타이머로 기록하고, 처음 보는 호출 경로는 스택과 함께 로그로 남깁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int SIGNATURE_FRAMES = 8;
+    private static final int MAX_REPORTED_SIGNATURES = 1000;
+
+    private final Timer pinnedTimer;
+    private final Duration threshold;
+    private final Set<String> reportedSignatures = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.threads.pinning-threshold-ms:20}") long thresholdMs) {
+        this.threshold = Duration.ofMillis(thresholdMs);
+        this.pinnedTimer = Timer.builder("jvm.threads.virtual.pinned")
+                .description("가상 스레드가 carrier 스레드에 고정된 시간")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void start() {
+        recordingStream = new RecordingStream();
+        recordingStream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recordingStream.onEvent(PINNED_EVENT, this::onPinned);
+        recordingStream.startAsync();
+        log.info("가상 스레드 pinning 감지 시작 (threshold {}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        if (recordingStream != null) {
+            recordingStream.close();
+            recordingStream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    private void onPinned(RecordedEvent event) {
+        pinnedTimer.record(event.getDuration());
+
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        if (stackTrace == null) {
+            return;
+        }
+
+        // 같은 호출 경로는 한 번만 로그로 남김
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String signature = frames.stream()
+                .limit(SIGNATURE_FRAMES)
+                .map(this::formatFrame)
+                .collect(Collectors.joining("\n\tat "));
+        if (reportedSignatures.size() < MAX_REPORTED_SIGNATURES && reportedSignatures.add(signature)) {
+            RecordedThread thread = event.getThread();
+            log.warn("가상 스레드 pinning 감지 ({}ms, {}):\n\tat {}", event.getDuration().toMillis(),
+                    thread != null ? thread.getJavaName() : "unknown", signature);
+        }
+    }
+
+    private String formatFrame(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + "(line " + frame.getLineNumber() + ")";
+    }
+}
@@ -1,7 +1,23 @@
 package com.gijun.salesmanagement.repository;
 
 import com.gijun.salesmanagement.domain.ApiLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
 
 public interface ApiLogRepository extends JpaRepository<ApiLog, Long> {
-}
\ No newline at end of file
+
+    // 내보내기용 forward-only 스트림 (MySQL 은 useCursorFetch=true 일 때 fetchSize 단위로 조회)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT l FROM ApiLog l WHERE l.createdAt >= :from AND l.createdAt < :to ORDER BY l.id")
+    Stream<ApiLog> streamByCreatedAtBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,17 @@
+package com.gijun.salesmanagement.repository;
+
+import com.gijun.salesmanagement.domain.StoreCodeSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface StoreCodeSequenceRepository extends JpaRepository<StoreCodeSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM StoreCodeSequence s WHERE s.name = :name")
+    Optional<StoreCodeSequence> findByNameForUpdate(@Param("name") String name);
+}
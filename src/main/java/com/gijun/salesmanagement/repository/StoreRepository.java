@@ -1,30 +1,28 @@
 package com.gijun.salesmanagement.repository;
 
 import com.gijun.salesmanagement.domain.Store;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface StoreRepository extends JpaRepository<Store, Long> {
+public interface StoreRepository extends JpaRepository<Store, Long>, StoreRepositoryCustom {
     Optional<Store> findByStoreCode(String storeCode);
 
     boolean existsByBusinessNumber(String businessNumber);
 
-    @Query("SELECT s FROM Store s WHERE s.closeYn = 'N'")
-    List<Store> findAllActiveStores();
-
-    @Query("SELECT s FROM Store s WHERE s.closeYn = 'N' Order by s.createdAt DESC LIMIT 3")
-    List<Store> findRecentCreatedStoresBy3();
-
-    @Query("SELECT s FROM Store s WHERE s.category = :category AND s.closeYn = 'N'")
-    List<Store> findActiveStoresByCategory(Store.StoreCategory category);
-
     @Query("SELECT s FROM Store s WHERE s.headquarter = :headquarter AND s.closeYn = 'N'")
     List<Store> findActiveStoresByHeadquarter(@Param("headquarter") Store headquarter);
 
+    @Query("SELECT s.storeCode FROM Store s WHERE s.headquarter = :headquarter")
+    List<String> findStoreCodesByHeadquarter(@Param("headquarter") Store headquarter);
+
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Store s " +
             "WHERE s.businessNumber = :businessNumber AND s.id != :storeId")
     boolean existsByBusinessNumberAndIdNot(String businessNumber, Long storeId);
@@ -32,4 +30,14 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("SELECT CASE WHEN COUNT(s) > 0 THEN true ELSE false END FROM Store s " +
             "WHERE s.headquarter = :headquarter AND s.closeYn = 'N'")
     boolean existsActiveStoresByHeadquarter(@Param("headquarter") Store headquarter);
+
+    // 전체 매장 내보내기용 forward-only 스트림 (MySQL 은 useCursorFetch=true 일 때 fetchSize 단위로 조회)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT s FROM Store s " +
+            "LEFT JOIN FETCH s.headquarter LEFT JOIN FETCH s.createdBy LEFT JOIN FETCH s.updatedBy " +
+            "ORDER BY s.id")
+    Stream<Store> streamAllForExport();
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.gijun.salesmanagement.repository;
+
+import com.gijun.salesmanagement.dto.StoreDto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 연관 엔티티를 지연 로딩하지 않고 한 번의 쿼리로 응답 DTO 를 조회합니다.
+ */
+public interface StoreRepositoryCustom {
+
+    /**
+     * 운영중인 매장을 조건으로 검색합니다. null 인 조건은 무시합니다.
+     */
+    List<StoreDto.Response> searchActiveStores(StoreDto.SearchCondition condition);
+
+    /**
+     * 매장 코드 기준 keyset 페이지 조회. cursor 보다 큰 매장 코드부터 limit 건을 조회합니다 (OFFSET 미사용).
+     */
+    List<StoreDto.Response> searchActiveStores(StoreDto.SearchCondition condition, String cursor, int limit);
+
+    List<StoreDto.Response> findRecentActiveStores(int limit);
+
+    /**
+     * 폐점 여부와 관계없이 매장 코드로 응답 DTO 를 조회합니다.
+     */
+    Optional<StoreDto.Response> findResponseByStoreCode(String storeCode);
+
+    /**
+     * 전체 매장의 본사 관계와 운영 여부만 조회합니다.
+     */
+    List<StoreDto.HierarchyRow> findAllHierarchyRows();
+}
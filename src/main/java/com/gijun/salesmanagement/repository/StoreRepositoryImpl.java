@@ -0,0 +1,155 @@
+package com.gijun.salesmanagement.repository;
+
+import com.gijun.salesmanagement.domain.QStore;
+import com.gijun.salesmanagement.domain.QUser;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.StoreDto;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class StoreRepositoryImpl implements StoreRepositoryCustom {
+
+    private static final QStore store = QStore.store;
+    private static final QStore headquarter = new QStore("headquarter");
+    private static final QUser createdBy = new QUser("createdBy");
+    private static final QUser updatedBy = new QUser("updatedBy");
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<StoreDto.Response> searchActiveStores(StoreDto.SearchCondition condition) {
+        return selectResponses()
+                .where(searchConditions(condition))
+                .fetch()
+                .stream()
+                .map(StoreRepositoryImpl::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<StoreDto.Response> searchActiveStores(StoreDto.SearchCondition condition, String cursor, int limit) {
+        return selectResponses()
+                .where(searchConditions(condition))
+                .where(storeCodeGt(cursor))
+                .orderBy(store.storeCode.asc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(StoreRepositoryImpl::toResponse)
+                .toList();
+    }
+
+    @Override
+    public List<StoreDto.Response> findRecentActiveStores(int limit) {
+        return selectResponses()
+                .where(store.closeYn.eq("N"))
+                .orderBy(store.createdAt.desc())
+                .limit(limit)
+                .fetch()
+                .stream()
+                .map(StoreRepositoryImpl::toResponse)
+                .toList();
+    }
+
+    @Override
+    public Optional<StoreDto.Response> findResponseByStoreCode(String storeCode) {
+        return Optional.ofNullable(selectResponses()
+                        .where(store.storeCode.eq(storeCode))
+                        .fetchOne())
+                .map(StoreRepositoryImpl::toResponse);
+    }
+
+    @Override
+    public List<StoreDto.HierarchyRow> findAllHierarchyRows() {
+        return queryFactory
+                .select(Projections.constructor(StoreDto.HierarchyRow.class,
+                        store.id, store.storeCode, store.storeType, headquarter.storeCode, store.closeYn))
+                .from(store)
+                .leftJoin(store.headquarter, headquarter)
+                .fetch();
+    }
+
+    private JPAQuery<Tuple> selectResponses() {
+        return queryFactory
+                .select(store.storeCode, store.storeName, store.category, store.businessNumber,
+                        store.openDate, store.closeDate, store.closeYn, store.storeType,
+                        headquarter.storeCode, headquarter.storeName,
+                        store.createdAt, store.updatedAt, createdBy.name, updatedBy.name)
+                .from(store)
+                .leftJoin(store.headquarter, headquarter)
+                .leftJoin(store.createdBy, createdBy)
+                .leftJoin(store.updatedBy, updatedBy);
+    }
+
+    private BooleanExpression[] searchConditions(StoreDto.SearchCondition condition) {
+        return new BooleanExpression[]{
+                store.closeYn.eq("N"),
+                storeTypeEq(condition.storeType()),
+                categoryEq(condition.category()),
+                headquarterStoreCodeEq(condition.headquarterStoreCode()),
+                openDateGoe(condition.openDateFrom()),
+                openDateLoe(condition.openDateTo()),
+                storeNameStartsWith(condition.storeNamePrefix())
+        };
+    }
+
+    private BooleanExpression storeCodeGt(String cursor) {
+        return StringUtils.hasText(cursor) ? store.storeCode.gt(cursor) : null;
+    }
+
+    private BooleanExpression storeTypeEq(Store.StoreType storeType) {
+        return storeType != null ? store.storeType.eq(storeType) : null;
+    }
+
+    private BooleanExpression categoryEq(Store.StoreCategory category) {
+        return category != null ? store.category.eq(category) : null;
+    }
+
+    private BooleanExpression headquarterStoreCodeEq(String headquarterStoreCode) {
+        return StringUtils.hasText(headquarterStoreCode) ? headquarter.storeCode.eq(headquarterStoreCode) : null;
+    }
+
+    private BooleanExpression openDateGoe(LocalDate openDateFrom) {
+        return openDateFrom != null ? store.openDate.goe(openDateFrom) : null;
+    }
+
+    private BooleanExpression openDateLoe(LocalDate openDateTo) {
+        return openDateTo != null ? store.openDate.loe(openDateTo) : null;
+    }
+
+    private BooleanExpression storeNameStartsWith(String storeNamePrefix) {
+        return StringUtils.hasText(storeNamePrefix) ? store.storeName.startsWith(storeNamePrefix) : null;
+    }
+
+    private static StoreDto.Response toResponse(Tuple tuple) {
+        LocalDateTime createdAt = tuple.get(store.createdAt);
+        LocalDateTime updatedAt = tuple.get(store.updatedAt);
+        return new StoreDto.Response(
+                tuple.get(store.storeCode),
+                tuple.get(store.storeName),
+                tuple.get(store.category),
+                tuple.get(store.businessNumber),
+                tuple.get(store.openDate),
+                tuple.get(store.closeDate),
+                tuple.get(store.closeYn),
+                tuple.get(store.storeType),
+                tuple.get(headquarter.storeCode),
+                tuple.get(headquarter.storeName),
+                createdAt != null ? createdAt.toLocalDate() : null,
+                updatedAt != null ? updatedAt.toLocalDate() : null,
+                tuple.get(createdBy.name),
+                tuple.get(updatedBy.name)
+        );
+    }
+}
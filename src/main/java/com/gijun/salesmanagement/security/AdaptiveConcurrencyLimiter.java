@@ -0,0 +1,165 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 동시 처리 중인 요청 수를 관측된 응답 시간으로 조정되는 limit 이하로 제한합니다 (AIMD).
+ * 주기 내 최소 응답 시간이 기준 응답 시간 × latencyTolerance 를 넘거나 5xx 가 발생하면 limit 을 backoffRatio 만큼 줄이고,
+ * 그렇지 않고 limit 의 절반 이상을 사용 중이었다면 1 씩 늘립니다 (Vegas 방식).
+ * 평균 대신 최솟값을 사용하므로 일부 느린 요청이 섞여도 limit 이 줄지 않으며, 모든 요청이 함께 느려질 때(대기 발생)만 줄입니다.
+ * 응답 시간이 처리량과 무관한 스트리밍 요청(BULK)은 응답 시간 표본에서 제외합니다 ({@link #release}).
+ * 요청 경로의 획득 / 반환은 CAS 와 LongAdder 만 사용하며, limit 계산은 주기 경계를 넘긴 한 스레드만 수행합니다.
+ */
+@Slf4j
+@Component
+public class AdaptiveConcurrencyLimiter {
+
+    public enum Priority { CRITICAL, NORMAL, BULK }
+
+    private final ConcurrencyLimitProperties properties;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Map<Priority, Counter> rejected = new EnumMap<>(Priority.class);
+
+    private volatile double limit;
+
+    // 현재 주기의 집계
+    private final LongAccumulator windowMinRttNanos = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAdder windowSamples = new LongAdder();
+    private final LongAdder windowDrops = new LongAdder();
+    private final AtomicInteger windowMaxInFlight = new AtomicInteger();
+    private final AtomicLong windowStartNanos;
+
+    // 부하가 없을 때의 기준 응답 시간 (장기 최솟값), limit 계산 스레드만 갱신
+    private volatile long baselineRttNanos = Long.MAX_VALUE;
+
+    @Autowired
+    public AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, System::nanoTime);
+    }
+
+    // 테스트에서 시각을 제어하기 위한 생성자
+    AdaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry, LongSupplier nanoClock) {
+        this.properties = properties;
+        this.nanoClock = nanoClock;
+        this.windowStartNanos = new AtomicLong(nanoClock.getAsLong());
+        this.limit = clamp(properties.getInitialLimit());
+
+        for (Priority priority : Priority.values()) {
+            rejected.put(priority, meterRegistry.counter("concurrency.limit.rejected", "priority", priority.name().toLowerCase()));
+        }
+        Gauge.builder("concurrency.limit", this, AdaptiveConcurrencyLimiter::getLimit).register(meterRegistry);
+        Gauge.builder("concurrency.limit.in_flight", inFlight, AtomicInteger::get).register(meterRegistry);
+    }
+
+    /**
+     * @return 획득에 성공하면 true. true 인 경우 처리가 끝난 뒤 반드시 {@link #release} 를 호출해야 합니다
+     */
+    public boolean tryAcquire(Priority priority) {
+        int allowed = Math.max(1, (int) (limit * share(priority)));
+        while (true) {
+            int current = inFlight.get();
+            if (current >= allowed) {
+                rejected.get(priority).increment();
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                windowMaxInFlight.accumulateAndGet(current + 1, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * @param dropped 서버 오류 등 과부하 신호로 볼 수 있는 결과인지 여부
+     * @param sampled 응답 시간을 limit 계산에 사용할지 여부 (내보내기 등 오래 걸리는 스트리밍 요청은 false)
+     */
+    public void release(long rttNanos, boolean dropped, boolean sampled) {
+        inFlight.decrementAndGet();
+        if (sampled) {
+            windowMinRttNanos.accumulate(rttNanos);
+            windowSamples.increment();
+        }
+        if (dropped) {
+            windowDrops.increment();
+        }
+        maybeAdjust(nanoClock.getAsLong());
+    }
+
+    private void maybeAdjust(long now) {
+        long start = windowStartNanos.get();
+        if (now - start < TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs())
+                || !windowStartNanos.compareAndSet(start, now)) {
+            return;
+        }
+
+        long samples = windowSamples.sumThenReset();
+        long minRtt = windowMinRttNanos.getThenReset();
+        long drops = windowDrops.sumThenReset();
+        int maxInFlight = windowMaxInFlight.getAndSet(inFlight.get());
+        if (samples < properties.getMinWindowSamples()) {
+            return;
+        }
+
+        double current = limit;
+        updateBaseline(minRtt, drops == 0 && maxInFlight < current / 2);
+
+        if (drops > 0 || minRtt > baselineRttNanos * properties.getLatencyTolerance()) {
+            limit = clamp(current * properties.getBackoffRatio());
+            if ((int) limit < (int) current) {
+                log.info("동시 처리 limit 감소 {} → {} (최소 {}ms, 기준 {}ms, 오류 {})", (int) current, (int) limit,
+                        TimeUnit.NANOSECONDS.toMillis(minRtt), TimeUnit.NANOSECONDS.toMillis(baselineRttNanos), drops);
+            }
+        } else if (maxInFlight >= current / 2) {
+            limit = clamp(current + 1);
+        }
+    }
+
+    private double share(Priority priority) {
+        return switch (priority) {
+            case CRITICAL -> 1.0;
+            case NORMAL -> properties.getNormalShare();
+            case BULK -> properties.getBulkShare();
+        };
+    }
+
+    /**
+     * 더 빠른 주기는 바로 반영하고, 느려진 경우에는 대기가 생기지 않은(limit 의 절반 미만 사용) 주기에서만 조금씩 따라갑니다.
+     * 포화 상태의 느린 응답 시간을 정상으로 다시 학습하지 않도록, 주기적으로 덮어쓰지 않습니다.
+     */
+    private void updateBaseline(long minRtt, boolean unsaturated) {
+        long baseline = baselineRttNanos;
+        if (minRtt < baseline) {
+            baselineRttNanos = minRtt;
+        } else if (unsaturated) {
+            baselineRttNanos = baseline + (long) ((minRtt - baseline) * properties.getBaselineDriftRatio());
+        }
+    }
+
+    private double clamp(double value) {
+        return Math.min(Math.max(value, properties.getMinLimit()), properties.getMaxLimit());
+    }
+
+    public double getLimit() {
+        return limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
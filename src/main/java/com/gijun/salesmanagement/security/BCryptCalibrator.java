@@ -0,0 +1,39 @@
+package com.gijun.salesmanagement.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * 현재 장비에서 한 번의 해시가 목표 시간 안에 끝나는 가장 높은 BCrypt strength 를 찾습니다.
+ * 노드마다 결과가 다를 수 있으므로 설정값을 정하기 위한 참고용이며, 결과를 strength 로 바로 사용하지 않습니다.
+ * strength 가 1 증가할 때마다 비용이 두 배가 되므로 목표 시간을 넘는 즉시 측정을 멈춥니다.
+ */
+@Slf4j
+public final class BCryptCalibrator {
+
+    private static final String SAMPLE_PASSWORD = "calibration-Passw0rd!";
+
+    private BCryptCalibrator() {
+    }
+
+    public static int calibrate(long targetLatencyMs, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(minStrength).encode(SAMPLE_PASSWORD);
+
+        int strength = minStrength;
+        for (int candidate = minStrength; candidate <= maxStrength; candidate++) {
+            long start = System.nanoTime();
+            new BCryptPasswordEncoder(candidate).encode(SAMPLE_PASSWORD);
+            long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+            if (elapsedMs > targetLatencyMs) {
+                break;
+            }
+            strength = candidate;
+            log.debug("BCrypt strength {}: {}ms", candidate, elapsedMs);
+        }
+
+        log.debug("BCrypt 권장 strength {} (목표 {}ms)", strength, targetLatencyMs);
+        return strength;
+    }
+}
@@ -1,47 +1,73 @@
 package com.gijun.salesmanagement.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
 
+    // 토큰 검증 시간 (outcome: authenticated / invalid / error). 토큰이 없는 요청은 기록하지 않음
+    private final Timer authenticatedTimer;
+    private final Timer invalidTimer;
+    private final MeterRegistry meterRegistry;
+
+    public JwtAuthenticationFilter(JwtTokenProvider tokenProvider, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.meterRegistry = meterRegistry;
+        this.authenticatedTimer = timer("authenticated", "none");
+        this.invalidTimer = timer("invalid", "none");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
         try {
             String jwt = tokenProvider.resolveToken(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Authentication authentication = tokenProvider.getAuthentication(jwt);
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+            if (StringUtils.hasText(jwt)) {
+                Authentication authentication = tokenProvider.resolveAuthentication(jwt);
+                if (authentication != null) {
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    authenticatedTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                } else {
+                    invalidTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                }
             }
         } catch (Exception e) {
-            logger.error("JWT 처리 중 오류 발생: {}");
+            logger.error("JWT 처리 중 오류 발생", e);
             SecurityContextHolder.clearContext();
+            timer("error", e.getClass().getSimpleName()).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
 
         filterChain.doFilter(request, response);
     }
 
+    private Timer timer(String outcome, String exception) {
+        return Timer.builder("security.jwt.filter")
+                .tag("outcome", outcome)
+                .tag("exception", exception)
+                .register(meterRegistry);
+    }
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getRequestURI();
         return path.startsWith("/api/auth/") ||
                 path.contains("/swagger-ui") ||
                 path.contains("/api-docs") ||
-                path.contains("/actuator") ||
                 path.contains("/ws");
     }
 }
\ No newline at end of file
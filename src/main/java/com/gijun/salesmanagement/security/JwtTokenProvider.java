@@ -1,37 +1,78 @@
 package com.gijun.salesmanagement.security;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 import com.gijun.salesmanagement.config.JwtConfig;
+import com.gijun.salesmanagement.domain.User;
+import com.gijun.salesmanagement.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
+import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String AUTHORITIES_CLAIM = "auth";
+    private static final String USER_ID_CLAIM = "uid";
+    private static final String FAMILY_ID_CLAIM = "fid";
+
     private final SecretKey key;
     private final JwtConfig jwtConfig;
+    private final JwtParser parser;
+    private final LongSupplier clock;  // epoch millis
+
+    // 토큰 digest → 검증된 인증 정보. 같은 토큰의 반복 요청은 서명 검증을 생략
+    private final Cache<String, VerifiedToken> authenticationCache;
+
+    private record VerifiedToken(Long userId, String subject, List<GrantedAuthority> authorities, long expiresAtMillis) {}
 
-    public JwtTokenProvider(JwtConfig jwtConfig) {
+    @Autowired
+    public JwtTokenProvider(JwtConfig jwtConfig, MeterRegistry meterRegistry) {
+        this(jwtConfig, meterRegistry, System::currentTimeMillis);
+    }
+
+    // 테스트에서 시각을 제어하기 위한 생성자. 발급 / 만료 검증 / 캐시 만료 모두 같은 clock 을 사용
+    JwtTokenProvider(JwtConfig jwtConfig, MeterRegistry meterRegistry, LongSupplier clock) {
         this.jwtConfig = jwtConfig;
+        this.clock = clock;
         byte[] keyBytes = Decoders.BASE64.decode(jwtConfig.getSecret());
         this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.parser = Jwts.parser()
+                .verifyWith(key)
+                .clock(() -> new Date(clock.getAsLong()))
+                .build();
+
+        this.authenticationCache = CacheBuilder.newBuilder()
+                .maximumSize(jwtConfig.getAuthenticationCacheSize())
+                .expireAfterWrite(Duration.ofSeconds(jwtConfig.getAuthenticationCacheTtlSeconds()))
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, authenticationCache, "jwt.authentication");
     }
 
     // Access Token 생성
@@ -40,7 +81,7 @@ public class JwtTokenProvider {
                 .map(GrantedAuthority::getAuthority)
                 .collect(Collectors.joining(","));
 
-        long now = System.currentTimeMillis();
+        long now = clock.getAsLong();
 
         return Jwts.builder()
                 .header()
@@ -48,59 +89,118 @@ public class JwtTokenProvider {
                 .and()
                 .issuer("sales-management")
                 .subject(authentication.getName())
-                .claim("auth", authorities)
+                .claim(AUTHORITIES_CLAIM, authorities)
+                .claim(USER_ID_CLAIM, resolveUserId(authentication))
                 .issuedAt(new Date(now))
                 .expiration(new Date(now + jwtConfig.getAccessTokenValidity() * 1000))
                 .signWith(key)
                 .compact();
     }
 
-    // Refresh Token 생성
-    public String createRefreshToken(Authentication authentication) {
-        long now = System.currentTimeMillis();
+    // Refresh Token 생성 (권한 정보 없이 family / 토큰 ID 만 포함)
+    public String createRefreshToken(String subject, String familyId, String tokenId) {
+        long now = clock.getAsLong();
 
         return Jwts.builder()
                 .header()
                 .type("JWT")
                 .and()
                 .issuer("sales-management")
-                .subject(authentication.getName())
+                .subject(subject)
+                .id(tokenId)
+                .claim(FAMILY_ID_CLAIM, familyId)
                 .issuedAt(new Date(now))
                 .expiration(new Date(now + jwtConfig.getRefreshTokenValidity() * 1000))
                 .signWith(key)
                 .compact();
     }
 
+    /**
+     * 토큰을 한 번만 파싱하여 검증과 Authentication 생성을 함께 처리합니다.
+     * 검증된 토큰은 만료 시각까지 캐시하므로 같은 토큰으로 다시 요청하면 서명 검증을 생략합니다.
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication resolveAuthentication(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+
+        String digest = Hashing.sha256().hashString(token, StandardCharsets.UTF_8).toString();
+        VerifiedToken verified = authenticationCache.getIfPresent(digest);
+        if (verified != null && verified.expiresAtMillis() <= clock.getAsLong()) {
+            authenticationCache.invalidate(digest);
+            verified = null;
+        }
+
+        if (verified == null) {
+            Claims claims = parseValidClaims(token);
+            if (claims == null || !isAccessToken(claims)) {
+                return null;
+            }
+            verified = new VerifiedToken(claims.get(USER_ID_CLAIM, Long.class), claims.getSubject(),
+                    toAuthorities(claims), claims.getExpiration().getTime());
+            authenticationCache.put(digest, verified);
+        }
+
+        UserDetails principal = new UserPrincipal(verified.userId(), verified.subject(), verified.authorities());
+        return new UsernamePasswordAuthenticationToken(principal, token, verified.authorities());
+    }
+
+    // 보안 정보(비밀번호 / 권한 / 상태)가 바뀐 사용자의 캐시 항목은 제거하여 다음 요청에서 다시 검증
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.userId() != null && event.securityChanged()) {
+            authenticationCache.asMap().values().removeIf(verified -> event.userId().equals(verified.userId()));
+        }
+    }
+
     // Token으로부터 Authentication 객체 생성
     public Authentication getAuthentication(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseClaims(token);
 
-        Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get("auth").toString().split(","))
-                        .filter(StringUtils::hasText)
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+        Collection<? extends GrantedAuthority> authorities = toAuthorities(claims);
 
-        UserDetails principal = new User(claims.getSubject(), "", authorities);
+        UserDetails principal = new UserPrincipal(claims.get(USER_ID_CLAIM, Long.class), claims.getSubject(), authorities);
         return new UsernamePasswordAuthenticationToken(principal, token, authorities);
     }
 
+    /**
+     * Refresh Token 을 검증하고 Claims 를 반환합니다.
+     * @return 유효한 Refresh Token 이 아니면 null
+     */
+    public Claims parseRefreshToken(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        Claims claims = parseValidClaims(token);
+        if (claims == null || isAccessToken(claims)
+                || claims.get(FAMILY_ID_CLAIM) == null || claims.getId() == null) {
+            return null;
+        }
+        return claims;
+    }
+
+    public String getFamilyId(Claims refreshClaims) {
+        return refreshClaims.get(FAMILY_ID_CLAIM, String.class);
+    }
+
+    // Refresh Token 은 인증 용도로 사용할 수 없음
+    private boolean isAccessToken(Claims claims) {
+        return claims.get(AUTHORITIES_CLAIM) != null && claims.get(FAMILY_ID_CLAIM) == null;
+    }
+
     // Token 유효성 검증
     public boolean validateToken(String token) {
-        try {
-            if (!StringUtils.hasText(token)) {
-                return false;
-            }
+        if (!StringUtils.hasText(token)) {
+            return false;
+        }
+        return parseValidClaims(token) != null;
+    }
 
-            Jwts.parser()
-                    .verifyWith(key)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+    // 검증에 실패하면 null
+    private Claims parseValidClaims(String token) {
+        try {
+            return parseClaims(token);
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
@@ -110,7 +210,7 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT token compact of handler are invalid: {}", e.getMessage());
         }
-        return false;
+        return null;
     }
 
     // Request Header에서 토큰 추출
@@ -126,10 +226,24 @@ public class JwtTokenProvider {
 
     // Token Claims 추출
     public Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+        return parser.parseSignedClaims(token).getPayload();
+    }
+
+    private Long resolveUserId(Authentication authentication) {
+        Object principal = authentication.getPrincipal();
+        if (principal instanceof User user) {
+            return user.getId();
+        }
+        if (principal instanceof UserPrincipal userPrincipal) {
+            return userPrincipal.getId();
+        }
+        return null;
+    }
+
+    private List<GrantedAuthority> toAuthorities(Claims claims) {
+        return Arrays.stream(claims.get(AUTHORITIES_CLAIM).toString().split(","))
+                .filter(StringUtils::hasText)
+                .map(SimpleGrantedAuthority::new)
+                .collect(Collectors.toUnmodifiableList());
     }
 }
\ No newline at end of file
@@ -0,0 +1,147 @@
+package com.gijun.salesmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gijun.salesmanagement.config.ConcurrencyLimitProperties;
+import com.gijun.salesmanagement.dto.common.ApiResponse;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 필터 체인의 가장 앞에서 동시 처리 요청 수를 제한합니다. limit 을 넘는 요청은 대기시키지 않고 바로 503 으로 거절합니다.
+ * 로그인 / 토큰 갱신과 관리자의 변경 요청은 CRITICAL, 목록 조회는 BULK 로 분류하여 포화 시 목록 조회부터 거절합니다.
+ * 헬스 체크와 actuator 는 제한하지 않습니다.
+ */
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    private static final String ADMIN_AUTHORITY = "ROLE_ADMIN";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final ConcurrencyLimitProperties properties;
+    private final JwtTokenProvider tokenProvider;
+    private final ObjectMapper objectMapper;
+    private final List<PathPattern> criticalPatterns;
+    private final List<PathPattern> bulkPatterns;
+
+    public LoadSheddingFilter(AdaptiveConcurrencyLimiter limiter, ConcurrencyLimitProperties properties,
+                              JwtTokenProvider tokenProvider, ObjectMapper objectMapper) {
+        this.limiter = limiter;
+        this.properties = properties;
+        this.tokenProvider = tokenProvider;
+        this.objectMapper = objectMapper;
+        this.criticalPatterns = properties.getCriticalPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+        this.bulkPatterns = properties.getBulkPaths().stream().map(PathPatternParser.defaultInstance::parse).toList();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        AdaptiveConcurrencyLimiter.Priority priority = classify(request);
+        if (!limiter.tryAcquire(priority)) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(properties.getRetryAfterSeconds()));
+            response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+            objectMapper.writeValue(response.getOutputStream(),
+                    ApiResponse.error("E503", "서버가 혼잡합니다. 잠시 후 다시 시도해주세요.", "priority=" + priority.name()));
+            return;
+        }
+
+        long start = System.nanoTime();
+        AtomicBoolean released = new AtomicBoolean();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // 스트리밍 응답(엑셀 다운로드 등)은 비동기 처리가 끝날 때 반환
+                request.getAsyncContext().addListener(new AsyncListener() {
+                    @Override
+                    public void onComplete(AsyncEvent event) {
+                        release(released, start, response, priority);
+                    }
+
+                    @Override
+                    public void onTimeout(AsyncEvent event) {
+                        release(released, start, response, priority);
+                    }
+
+                    @Override
+                    public void onError(AsyncEvent event) {
+                        release(released, start, response, priority);
+                    }
+
+                    @Override
+                    public void onStartAsync(AsyncEvent event) {
+                        event.getAsyncContext().addListener(this);
+                    }
+                });
+            } else {
+                release(released, start, response, priority);
+            }
+        }
+    }
+
+    // 목록 / 내보내기(BULK)는 응답 시간이 결과 크기에 비례하므로 limit 계산의 응답 시간 표본에서 제외
+    private void release(AtomicBoolean released, long start, HttpServletResponse response,
+                         AdaptiveConcurrencyLimiter.Priority priority) {
+        if (released.compareAndSet(false, true)) {
+            limiter.release(System.nanoTime() - start, response.getStatus() >= 500,
+                    priority != AdaptiveConcurrencyLimiter.Priority.BULK);
+        }
+    }
+
+    private AdaptiveConcurrencyLimiter.Priority classify(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        if (matches(criticalPatterns, path)) {
+            return AdaptiveConcurrencyLimiter.Priority.CRITICAL;
+        }
+
+        if (HttpMethod.GET.matches(request.getMethod())) {
+            return matches(bulkPatterns, path)
+                    ? AdaptiveConcurrencyLimiter.Priority.BULK
+                    : AdaptiveConcurrencyLimiter.Priority.NORMAL;
+        }
+
+        // 변경 요청은 관리자인 경우에만 CRITICAL (검증 결과는 JwtTokenProvider 에 캐시되어 이후 필터에서 재사용)
+        Authentication authentication = tokenProvider.resolveAuthentication(tokenProvider.resolveToken(request));
+        if (authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> ADMIN_AUTHORITY.equals(authority.getAuthority()))) {
+            return AdaptiveConcurrencyLimiter.Priority.CRITICAL;
+        }
+        return AdaptiveConcurrencyLimiter.Priority.NORMAL;
+    }
+
+    private boolean matches(List<PathPattern> patterns, PathContainer path) {
+        for (PathPattern pattern : patterns) {
+            if (pattern.matches(path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!properties.isEnabled()) {
+            return true;
+        }
+        String path = request.getRequestURI();
+        return path.endsWith("/health") || path.contains("/actuator")
+                || path.contains("/swagger-ui") || path.contains("/api-docs");
+    }
+}
@@ -0,0 +1,74 @@
+package com.gijun.salesmanagement.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gijun.salesmanagement.dto.common.ApiResponse;
+import com.gijun.salesmanagement.util.ClientIpUtils;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 보다 먼저 요청 수를 제한합니다.
+ * 사용자 식별은 서명 검증 결과를 캐시하는 {@link JwtTokenProvider#resolveAuthentication} 으로 처리하므로
+ * 거절되는 요청은 DB 에 접근하지 않습니다 (API 로그도 남기지 않음).
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String ROLE_PREFIX = "ROLE_";
+
+    private final RateLimiter rateLimiter;
+    private final JwtTokenProvider tokenProvider;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String subject = null;
+        List<String> roles = List.of();
+
+        Authentication authentication = tokenProvider.resolveAuthentication(tokenProvider.resolveToken(request));
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            subject = "u:" + (principal.getId() != null ? principal.getId() : principal.getUsername());
+            roles = authentication.getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .map(authority -> authority.startsWith(ROLE_PREFIX) ? authority.substring(ROLE_PREFIX.length()) : authority)
+                    .toList();
+        }
+        if (subject == null) {
+            subject = "ip:" + ClientIpUtils.getClientIp(request);
+        }
+
+        RateLimiter.Decision decision = rateLimiter.check(request.getMethod(), request.getRequestURI(), subject, roles);
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (long) Math.ceil(decision.retryAfterMicros() / (double) TimeUnit.SECONDS.toMicros(1)));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setHeader("X-RateLimit-Limit", String.valueOf(decision.limit()));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                ApiResponse.error("E429", "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.", "rule=" + decision.rule()));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String path = request.getRequestURI();
+        return path.contains("/actuator") || path.contains("/swagger-ui") || path.contains("/api-docs");
+    }
+}
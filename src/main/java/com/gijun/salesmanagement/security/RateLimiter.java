@@ -0,0 +1,217 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.config.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * GCRA(Generic Cell Rate Algorithm) 방식의 요청 제한. 토큰 버킷과 같은 결과를 키당 시각 하나로 계산합니다.
+ * 로컬 단계는 키별 AtomicLong 의 CAS 만 사용하므로 락이 없고, ConcurrentHashMap 의 분할 구조로 키 간 경합이 없습니다.
+ * global 규칙은 로컬 단계를 통과한 요청만 Redis Lua 스크립트로 한 번 더 검사하며, Redis 장애 시에는 로컬 제한만 적용합니다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private static final String GCRA_SCRIPT = """
+            local interval = tonumber(ARGV[1])
+            local burst = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000000 + tonumber(time[2])
+            local tat = tonumber(redis.call('GET', KEYS[1]) or now)
+            if tat < now then tat = now end
+            local newTat = tat + interval
+            local allowAt = newTat - burst * interval
+            if now < allowAt then return allowAt - now end
+            redis.call('SET', KEYS[1], newTat, 'PX', math.ceil((newTat - now) / 1000))
+            return 0
+            """;
+
+    private final RateLimitProperties properties;
+    private final StringRedisTemplate redisTemplate;
+    private final DefaultRedisScript<Long> gcraScript = new DefaultRedisScript<>(GCRA_SCRIPT, Long.class);
+    private final List<CompiledRule> rules;
+    private final Counter redisErrors;
+
+    // System.nanoTime() 은 음수일 수 있으므로 기준 시각으로부터의 경과 시간을 사용
+    private final long originNanos = System.nanoTime();
+
+    // "규칙:키" → 이론적 도착 시각(TAT, µs). 이 시각이 지난 키는 버킷이 가득 찬 상태와 같으므로 정리 대상
+    private final ConcurrentHashMap<String, AtomicLong> localStates = new ConcurrentHashMap<>();
+    // 키가 가득 찼을 때 새 키가 함께 사용하는 규칙별 버킷 (정리 대상 아님)
+    private final ConcurrentHashMap<String, AtomicLong> overflowStates = new ConcurrentHashMap<>();
+    private final AtomicLong nextOverflowEvictMicros = new AtomicLong();
+    private final Counter overflows;
+
+    private record CompiledRule(RateLimitProperties.Rule rule, PathPattern pattern, Set<String> methods,
+                                Counter allowed, Counter denied) {}
+
+    /**
+     * @param retryAfterMicros 거절된 경우 다시 시도할 수 있을 때까지의 시간
+     */
+    public record Decision(boolean allowed, String rule, long limit, long retryAfterMicros) {
+        static final Decision UNLIMITED = new Decision(true, null, 0, 0);
+    }
+
+    public RateLimiter(RateLimitProperties properties, StringRedisTemplate redisTemplate, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+        this.rules = properties.getRules().stream()
+                .map(rule -> new CompiledRule(rule, PathPatternParser.defaultInstance.parse(rule.getPath()),
+                        rule.getMethods().stream().map(method -> method.toUpperCase(Locale.ROOT)).collect(Collectors.toSet()),
+                        meterRegistry.counter("rate.limit.requests", "rule", rule.getName(), "result", "allowed"),
+                        meterRegistry.counter("rate.limit.requests", "rule", rule.getName(), "result", "denied")))
+                .toList();
+        this.redisErrors = Counter.builder("rate.limit.redis.errors").register(meterRegistry);
+        this.overflows = Counter.builder("rate.limit.local.overflow").register(meterRegistry);
+    }
+
+    /**
+     * @param subject 사용자 ID 또는 클라이언트 IP 기반 키
+     * @param roles   인증된 사용자의 역할 (ROLE_ 제외), 비인증이면 빈 목록
+     */
+    public Decision check(String method, String path, String subject, Collection<String> roles) {
+        if (!properties.isEnabled()) {
+            return Decision.UNLIMITED;
+        }
+        CompiledRule compiled = findRule(method, path);
+        if (compiled == null) {
+            return Decision.UNLIMITED;
+        }
+
+        RateLimitProperties.Rule rule = compiled.rule();
+        long limit = limitFor(rule, roles);
+        if (limit <= 0) {
+            return Decision.UNLIMITED;
+        }
+
+        long intervalMicros = Math.max(TimeUnit.NANOSECONDS.toMicros(rule.getPeriod().toNanos()) / limit, 1);
+        long burst = rule.getBurst() > 0 ? rule.getBurst() : limit;
+        String key = rule.getName() + ":" + subject;
+
+        long retryAfter = acquireLocal(rule.getName(), key, intervalMicros, burst);
+        if (retryAfter == 0 && rule.isGlobal() && properties.isRedisEnabled()) {
+            retryAfter = acquireRedis(key, intervalMicros, burst);
+        }
+
+        boolean allowed = retryAfter == 0;
+        (allowed ? compiled.allowed() : compiled.denied()).increment();
+        return new Decision(allowed, rule.getName(), limit, retryAfter);
+    }
+
+    private CompiledRule findRule(String method, String path) {
+        PathContainer pathContainer = null;
+        for (CompiledRule compiled : rules) {
+            if (!compiled.methods().isEmpty() && !compiled.methods().contains(method)) {
+                continue;
+            }
+            if (pathContainer == null) {
+                pathContainer = PathContainer.parsePath(path);
+            }
+            if (compiled.pattern().matches(pathContainer)) {
+                return compiled;
+            }
+        }
+        return null;
+    }
+
+    // 역할별 limit 중 가장 큰 값 (제한 없음 우선), 해당 역할이 없으면 기본 limit
+    private long limitFor(RateLimitProperties.Rule rule, Collection<String> roles) {
+        Long limit = null;
+        for (String role : roles) {
+            Long roleLimit = rule.getRoleLimits().get(role);
+            if (roleLimit == null) {
+                continue;
+            }
+            if (roleLimit <= 0) {
+                return 0;
+            }
+            limit = limit == null ? roleLimit : Math.max(limit, roleLimit);
+        }
+        return limit != null ? limit : rule.getLimit();
+    }
+
+    /**
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지의 µs
+     */
+    private long acquireLocal(String ruleName, String key, long intervalMicros, long burst) {
+        AtomicLong state = localStates.get(key);
+        if (state == null) {
+            state = localStates.size() < properties.getMaxLocalKeys() || evictOnOverflow()
+                    ? localStates.computeIfAbsent(key, k -> new AtomicLong())
+                    : overflowState(ruleName);
+        }
+
+        while (true) {
+            long now = nowMicros();
+            long tat = state.get();
+            long newTat = Math.max(tat, now) + intervalMicros;
+            long allowAt = newTat - burst * intervalMicros;
+            if (now < allowAt) {
+                return allowAt - now;
+            }
+            if (state.compareAndSet(tat, newTat)) {
+                return 0;
+            }
+        }
+    }
+
+    private long acquireRedis(String key, long intervalMicros, long burst) {
+        try {
+            Long retryAfter = redisTemplate.execute(gcraScript, List.of(properties.getRedisKeyPrefix() + key),
+                    String.valueOf(intervalMicros), String.valueOf(burst));
+            return retryAfter != null ? retryAfter : 0;
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("Redis 요청 제한 검사 실패, 로컬 제한만 적용: {}", e.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * 정리 주기 전에 키가 가득 찬 경우 (X-Forwarded-For 위조 등으로 키를 바꿔 가며 요청) 최대 1초에 한 번 즉시 정리합니다.
+     * @return 정리 후 새 키를 저장할 수 있으면 true
+     */
+    private boolean evictOnOverflow() {
+        long now = nowMicros();
+        long next = nextOverflowEvictMicros.get();
+        if (now >= next && nextOverflowEvictMicros.compareAndSet(next, now + TimeUnit.SECONDS.toMicros(1))) {
+            evictIdle();
+        }
+        return localStates.size() < properties.getMaxLocalKeys();
+    }
+
+    // 저장하지 못한 새 키는 통과시키지 않고 규칙별 공용 버킷으로 함께 제한 (메모리 보호, 제한은 유지)
+    private AtomicLong overflowState(String ruleName) {
+        overflows.increment();
+        return overflowStates.computeIfAbsent(ruleName, k -> new AtomicLong());
+    }
+
+    // 버킷이 가득 찬(TAT 가 지난) 키 정리
+    @Scheduled(fixedDelay = 60_000)
+    public void evictIdle() {
+        long now = nowMicros();
+        localStates.values().removeIf(state -> state.get() <= now);
+    }
+
+    private long nowMicros() {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - originNanos);
+    }
+}
@@ -0,0 +1,111 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.config.JwtConfig;
+import com.gijun.salesmanagement.event.UserChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Redis 에 저장되는 Refresh Token family.
+ * 로그인 한 번이 하나의 family 이며, family 에는 현재 유효한 토큰 ID(jti)와 Access Token 발급에 필요한 사용자 정보를 보관합니다.
+ * 토큰을 갱신할 때마다 jti 를 교체(rotation)하며, 이미 교체된 토큰이 다시 사용되면 탈취로 보고 family 전체를 폐기합니다.
+ * family 의 만료 시각은 로그인 시점에 고정되며 교체해도 연장되지 않습니다.
+ * 사용자의 권한, 활성 여부, 비밀번호가 변경되거나 사용자가 삭제되면 해당 사용자의 family 를 모두 폐기하여 이전 권한으로 Access Token 을 발급하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenStore {
+
+    private static final String KEY_PREFIX = "auth:refresh:family:";
+    private static final String USER_KEY_PREFIX = "auth:refresh:user:";
+
+    // family 생성과 만료 설정, 사용자별 family 목록 등록을 원자적으로 처리
+    private static final RedisScript<Long> CREATE_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[1], 'jti', ARGV[1], 'uid', ARGV[2], 'email', ARGV[3], 'auth', ARGV[4])
+            redis.call('PEXPIRE', KEYS[1], ARGV[5])
+            redis.call('SADD', KEYS[2], ARGV[6])
+            redis.call('PEXPIRE', KEYS[2], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // 조회, 재사용 검사, 교체를 한 번의 왕복으로 처리
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE_SCRIPT = new DefaultRedisScript<>("""
+            local fields = redis.call('HMGET', KEYS[1], 'jti', 'uid', 'email', 'auth')
+            if not fields[1] then
+                return {'-1'}
+            end
+            if fields[1] ~= ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                return {'0'}
+            end
+            redis.call('HSET', KEYS[1], 'jti', ARGV[2])
+            return {'1', fields[2], fields[3], fields[4]}
+            """, List.class);
+
+    // 사용자의 모든 family 폐기
+    private static final RedisScript<Long> REVOKE_USER_SCRIPT = new DefaultRedisScript<>("""
+            local families = redis.call('SMEMBERS', KEYS[1])
+            for _, familyId in ipairs(families) do
+                redis.call('DEL', ARGV[1] .. familyId)
+            end
+            redis.call('DEL', KEYS[1])
+            return #families
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final JwtConfig jwtConfig;
+
+    public enum RotationStatus {
+        ROTATED,
+        MISSING,  // 만료되었거나 로그아웃됨
+        REUSED    // 이미 교체된 토큰 재사용 → family 폐기
+    }
+
+    public record Rotation(RotationStatus status, Long userId, String email, String authorities) {}
+
+    public void createFamily(String familyId, String tokenId, Long userId, String email, String authorities) {
+        redisTemplate.execute(CREATE_SCRIPT, List.of(KEY_PREFIX + familyId, USER_KEY_PREFIX + userId),
+                tokenId, userId.toString(), email, authorities,
+                String.valueOf(jwtConfig.getRefreshTokenValidity() * 1000), familyId);
+    }
+
+    @SuppressWarnings("unchecked")
+    public Rotation rotate(String familyId, String presentedTokenId, String newTokenId) {
+        List<String> result = redisTemplate.execute(ROTATE_SCRIPT, List.of(KEY_PREFIX + familyId),
+                presentedTokenId, newTokenId);
+
+        return switch (result.get(0)) {
+            case "1" -> new Rotation(RotationStatus.ROTATED, Long.valueOf(result.get(1)), result.get(2), result.get(3));
+            case "0" -> new Rotation(RotationStatus.REUSED, null, null, null);
+            default -> new Rotation(RotationStatus.MISSING, null, null, null);
+        };
+    }
+
+    public void revoke(String familyId) {
+        redisTemplate.delete(KEY_PREFIX + familyId);
+    }
+
+    public void revokeAll(Long userId) {
+        Long revoked = redisTemplate.execute(REVOKE_USER_SCRIPT, List.of(USER_KEY_PREFIX + userId), KEY_PREFIX);
+        if (revoked != null && revoked > 0) {
+            log.info("사용자 변경으로 리프레시 토큰 family {}개 폐기: userId={}", revoked, userId);
+        }
+    }
+
+    // Redis 에서 폐기하므로 다른 노드에서 발급된 family 에도 적용
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        if (event.userId() != null && event.securityChanged()) {
+            revokeAll(event.userId());
+        }
+    }
+}
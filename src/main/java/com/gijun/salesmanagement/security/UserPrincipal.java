@@ -0,0 +1,21 @@
+package com.gijun.salesmanagement.security;
+
+import lombok.Getter;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collection;
+
+/**
+ * Access Token 에서 복원한 인증 사용자. 사용자 ID 를 함께 보관하여 DB 조회 없이 식별합니다.
+ */
+@Getter
+public class UserPrincipal extends User {
+
+    private final Long id;  // uid 클레임이 없는 이전 토큰이면 null
+
+    public UserPrincipal(Long id, String username, Collection<? extends GrantedAuthority> authorities) {
+        super(username, "", authorities);
+        this.id = id;
+    }
+}
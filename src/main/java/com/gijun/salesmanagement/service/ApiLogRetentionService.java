@@ -0,0 +1,406 @@
+package com.gijun.salesmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gijun.salesmanagement.config.ApiLogProperties;
+import com.gijun.salesmanagement.exception.InvalidValueException;
+import com.gijun.salesmanagement.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ColumnMapRowMapper;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * api_logs 보관 기간 관리.
+ * MySQL 이면 created_at 기준 RANGE 파티션으로 운영하여 만료된 기간은 파티션 단위로 DROP 하고 (메타데이터 변경),
+ * 파티션을 사용할 수 없으면 id 범위 단위의 짧은 DELETE 를 반복합니다. 테이블 전체를 잠그는 긴 DELETE 는 실행하지 않습니다.
+ * 테이블 복사가 일어나는 파티션 전환은 예약 작업에서 실행하지 않으며, 점검 시간에 관리자가 {@link #convertToPartitioned()} 로 실행합니다.
+ * 여러 노드에서 동시에 실행되지 않도록 GET_LOCK 으로 보호합니다.
+ */
+@Slf4j
+@Component
+public class ApiLogRetentionService {
+
+    private static final String TABLE = "api_logs";
+    private static final String LOCK_NAME = "api_logs_retention";
+    private static final String MAX_PARTITION = "pmax";
+    private static final String HISTORY_PARTITION = "p_history";
+    private static final DateTimeFormatter BOUND_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final DateTimeFormatter FILE_FORMAT = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApiLogProperties.Retention properties;
+    private final Counter droppedPartitions;
+    private final Counter deletedRows;
+    private final Counter archivedRows;
+
+    public ApiLogRetentionService(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper,
+                                  ApiLogProperties apiLogProperties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = apiLogProperties.getRetention();
+        this.droppedPartitions = Counter.builder("api.logs.retention.partitions.dropped").register(meterRegistry);
+        this.deletedRows = Counter.builder("api.logs.retention.rows.deleted").register(meterRegistry);
+        this.archivedRows = Counter.builder("api.logs.retention.rows.archived").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${app.api-log.retention.cron:0 30 3 * * *}")
+    public void run() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        try {
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                jdbc.setFetchSize(1000);
+                if (!isMySql(connection)) {
+                    purgeInBatches(jdbc);
+                    return null;
+                }
+
+                Boolean completed = withLock(jdbc, this::maintain);
+                if (completed == null) {
+                    log.info("다른 노드에서 api_logs 정리 중");
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.error("api_logs 보관 기간 정리 실패", e);
+        }
+    }
+
+    /**
+     * 파티션이 없는 기존 api_logs 를 RANGE 파티션 테이블로 전환합니다 (관리자 작업).
+     * 테이블 복사 동안 INSERT 가 대기하므로 점검 시간에 실행해야 하며, 행 수가 convertMaxRows 를 넘으면 거절합니다.
+     */
+    public void convertToPartitioned() {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            if (!isMySql(connection)) {
+                throw new InvalidValueException("파티션 전환은 MySQL 에서만 지원합니다.");
+            }
+            JdbcTemplate jdbc = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+            Boolean converted = withLock(jdbc, locked -> {
+                if (isPartitioned(locked)) {
+                    throw new InvalidValueException("api_logs 는 이미 파티션 테이블입니다.");
+                }
+                convertToPartitioned(locked);
+                return true;
+            });
+            if (converted == null) {
+                throw new ServiceUnavailableException("다른 노드에서 api_logs 정리 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            return null;
+        });
+    }
+
+    /**
+     * GET_LOCK 은 커넥션 단위이므로 같은 커넥션에서 작업 후 해제합니다.
+     * @return 잠금을 얻지 못하면 null
+     */
+    private <T> T withLock(JdbcTemplate jdbc, Function<JdbcTemplate, T> action) {
+        Integer locked = jdbc.queryForObject("SELECT GET_LOCK(?, 0)", Integer.class, LOCK_NAME);
+        if (locked == null || locked != 1) {
+            return null;
+        }
+        try {
+            return action.apply(jdbc);
+        } finally {
+            jdbc.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, LOCK_NAME);
+        }
+    }
+
+    // 파티션 테이블이면 파티션 추가 / 삭제(메타데이터 변경)만, 아니면 배치 삭제
+    private boolean maintain(JdbcTemplate jdbc) {
+        if (!isPartitioned(jdbc)) {
+            purgeInBatches(jdbc);
+            return true;
+        }
+
+        TreeMap<LocalDateTime, String> partitions = findPartitions(jdbc);
+        precreatePartitions(jdbc, partitions);
+        dropExpiredPartitions(jdbc, partitions);
+        return true;
+    }
+
+    private boolean isPartitioned(JdbcTemplate jdbc) {
+        Integer count = jdbc.queryForObject("""
+                SELECT COUNT(*) FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                """, Integer.class, TABLE);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 상한값 → 파티션 이름. MAXVALUE 파티션은 제외합니다.
+     */
+    private TreeMap<LocalDateTime, String> findPartitions(JdbcTemplate jdbc) {
+        TreeMap<LocalDateTime, String> partitions = new TreeMap<>();
+        jdbc.query("""
+                SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL
+                """, rs -> {
+            String description = rs.getString("PARTITION_DESCRIPTION").replace("'", "");
+            if (!"MAXVALUE".equalsIgnoreCase(description)) {
+                partitions.put(LocalDateTime.parse(description, BOUND_FORMAT), rs.getString("PARTITION_NAME"));
+            }
+        }, TABLE);
+        return partitions;
+    }
+
+    /**
+     * 파티션 키가 기본 키에 포함되어야 하므로 기본 키를 (id, created_at) 으로 변경합니다.
+     */
+    private void convertToPartitioned(JdbcTemplate jdbc) {
+        Long rows = jdbc.queryForObject("""
+                SELECT TABLE_ROWS FROM information_schema.TABLES
+                WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ?
+                """, Long.class, TABLE);
+        if (rows == null || rows > properties.getConvertMaxRows()) {
+            throw new InvalidValueException("api_logs 행 수(" + rows + ")가 convertMaxRows 를 넘습니다. "
+                    + "온라인 스키마 변경 도구로 수동 전환하세요.");
+        }
+
+        LocalDateTime currentStart = periodStart(LocalDateTime.now());
+        List<String> definitions = new ArrayList<>();
+        definitions.add(partitionDefinition(HISTORY_PARTITION, currentStart));
+        for (LocalDateTime bound : upcomingBounds(currentStart)) {
+            definitions.add(partitionDefinition(partitionName(bound), bound));
+        }
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbc.execute("ALTER TABLE " + TABLE
+                + " MODIFY created_at DATETIME(6) NOT NULL, DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)"
+                + " PARTITION BY RANGE COLUMNS(created_at) (" + String.join(", ", definitions) + ")");
+        log.info("api_logs 를 {} 단위 파티션 테이블로 전환했습니다.", properties.getGranularity());
+    }
+
+    // 비어 있는 MAXVALUE 파티션을 분할하므로 데이터 복사 없이 처리됨
+    private void precreatePartitions(JdbcTemplate jdbc, TreeMap<LocalDateTime, String> partitions) {
+        LocalDateTime lastBound = partitions.isEmpty() ? LocalDateTime.MIN : partitions.lastKey();
+        List<String> definitions = new ArrayList<>();
+        for (LocalDateTime bound : upcomingBounds(periodStart(LocalDateTime.now()))) {
+            if (bound.isAfter(lastBound)) {
+                definitions.add(partitionDefinition(partitionName(bound), bound));
+            }
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+
+        definitions.add("PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbc.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + MAX_PARTITION
+                + " INTO (" + String.join(", ", definitions) + ")");
+        log.info("api_logs 파티션 {}개 추가", definitions.size() - 1);
+    }
+
+    private void dropExpiredPartitions(JdbcTemplate jdbc, TreeMap<LocalDateTime, String> partitions) {
+        LocalDateTime cutoff = cutoff();
+        // 상한값이 cutoff 이하인 파티션은 모든 행이 보관 기간을 지남
+        for (Map.Entry<LocalDateTime, String> partition : partitions.headMap(cutoff, true).entrySet()) {
+            String name = partition.getValue();
+            if (properties.isArchiveEnabled()) {
+                archive(jdbc, "SELECT * FROM " + TABLE + " PARTITION (" + name + ")", name);
+            }
+            jdbc.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + name);
+            droppedPartitions.increment();
+            log.info("api_logs 파티션 삭제: {} (< {})", name, partition.getKey());
+        }
+    }
+
+    /**
+     * 파티션을 사용할 수 없을 때의 정리. 만료된 id 범위를 deleteBatchSize 씩 나누어 개별 트랜잭션(auto-commit)으로 삭제합니다.
+     * 각 DELETE 는 기본 키 범위만 잠그므로 INSERT 를 오래 막지 않습니다.
+     */
+    private void purgeInBatches(JdbcTemplate jdbc) {
+        LocalDateTime cutoff = cutoff();
+        Long minId = jdbc.queryForObject("SELECT MIN(id) FROM " + TABLE, Long.class);
+        Long maxId = jdbc.queryForObject("SELECT MAX(id) FROM " + TABLE + " WHERE created_at < ?", Long.class, cutoff);
+        if (minId == null || maxId == null) {
+            return;
+        }
+
+        ArchiveFile archive = properties.isArchiveEnabled()
+                ? ArchiveFile.open(archiveDirectory(), TABLE + "-" + FILE_FORMAT.format(cutoff) + "-" + minId)
+                : null;
+        long deleted = 0;
+        try {
+            for (long from = minId; from <= maxId && !Thread.currentThread().isInterrupted();
+                 from += properties.getDeleteBatchSize()) {
+                long to = Math.min(from + properties.getDeleteBatchSize() - 1, maxId);
+                if (archive != null) {
+                    archivedRows.increment(writeRows(jdbc, archive.out(),
+                            "SELECT * FROM " + TABLE + " WHERE id BETWEEN ? AND ? AND created_at < ?", from, to, cutoff));
+                }
+                int count = jdbc.update("DELETE FROM " + TABLE + " WHERE id BETWEEN ? AND ? AND created_at < ?",
+                        from, to, cutoff);
+                deleted += count;
+                deletedRows.increment(count);
+                pause();
+            }
+        } finally {
+            // 이미 삭제된 범위의 행이 담겨 있으므로 중단되더라도 보관 파일을 남김
+            if (archive != null) {
+                archive.close(true);
+            }
+        }
+        log.info("api_logs {}건 삭제 (created_at < {})", deleted, cutoff);
+    }
+
+    // 보관에 실패하면 예외로 파티션 삭제를 중단
+    private void archive(JdbcTemplate jdbc, String sql, String name) {
+        ArchiveFile archive = ArchiveFile.open(archiveDirectory(), TABLE + "-" + name);
+        boolean completed = false;
+        try {
+            archivedRows.increment(writeRows(jdbc, archive.out(), sql));
+            completed = true;
+        } finally {
+            archive.close(completed);
+        }
+    }
+
+    private long writeRows(JdbcTemplate jdbc, OutputStream out, String sql, Object... args) {
+        ColumnMapRowMapper rowMapper = new ColumnMapRowMapper();
+        long[] count = {0};
+        try {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+            jdbc.query(sql, rs -> {
+                try {
+                    generator.writeObject(rowMapper.mapRow(rs, 0));
+                    generator.writeRaw('\n');
+                    count[0]++;
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }, args);
+            generator.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count[0];
+    }
+
+    /**
+     * gzip NDJSON 보관 파일. 임시 파일에 기록한 뒤 close 시 이름을 바꾸고, 실패한 파일은 삭제합니다.
+     */
+    private record ArchiveFile(Path file, Path tempFile, OutputStream out) {
+
+        static ArchiveFile open(Path directory, String name) {
+            Path file = directory.resolve(name + ".ndjson.gz");
+            Path tempFile = directory.resolve(name + ".ndjson.gz.tmp");
+            try {
+                return new ArchiveFile(file, tempFile, new GZIPOutputStream(Files.newOutputStream(tempFile)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void close(boolean keep) {
+            try {
+                out.close();
+                if (keep) {
+                    Files.move(tempFile, file, StandardCopyOption.ATOMIC_MOVE);
+                } else {
+                    Files.deleteIfExists(tempFile);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Path archiveDirectory() {
+        try {
+            return Files.createDirectories(Path.of(properties.getArchiveDirectory()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private List<LocalDateTime> upcomingBounds(LocalDateTime currentStart) {
+        List<LocalDateTime> bounds = new ArrayList<>();
+        LocalDateTime bound = currentStart;
+        for (int i = 0; i <= properties.getPrecreatePartitions(); i++) {
+            bound = nextPeriod(bound);
+            bounds.add(bound);
+        }
+        return bounds;
+    }
+
+    private LocalDateTime periodStart(LocalDateTime time) {
+        LocalDate date = time.toLocalDate();
+        return switch (properties.getGranularity()) {
+            case DAY -> date.atStartOfDay();
+            case MONTH -> date.withDayOfMonth(1).atStartOfDay();
+        };
+    }
+
+    private LocalDateTime nextPeriod(LocalDateTime periodStart) {
+        return switch (properties.getGranularity()) {
+            case DAY -> periodStart.plusDays(1);
+            case MONTH -> periodStart.plusMonths(1);
+        };
+    }
+
+    // 파티션 이름은 해당 파티션의 시작 기간 (상한값의 이전 기간)
+    private String partitionName(LocalDateTime upperBound) {
+        LocalDateTime start = switch (properties.getGranularity()) {
+            case DAY -> upperBound.minusDays(1);
+            case MONTH -> upperBound.minusMonths(1);
+        };
+        return "p" + start.format(properties.getGranularity() == ApiLogProperties.Granularity.DAY
+                ? DateTimeFormatter.BASIC_ISO_DATE
+                : DateTimeFormatter.ofPattern("yyyyMM"));
+    }
+
+    private String partitionDefinition(String name, LocalDateTime upperBound) {
+        return "PARTITION " + name + " VALUES LESS THAN ('" + BOUND_FORMAT.format(upperBound) + "')";
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now().minusDays(properties.getRetentionDays());
+    }
+
+    private boolean isMySql(Connection connection) {
+        try {
+            return "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void pause() {
+        if (properties.getDeletePauseMs() <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(properties.getDeletePauseMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.config.ApiLogProperties;
+import com.gijun.salesmanagement.domain.ApiLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API 로그를 요청 스레드에서 분리하여 백그라운드에서 JDBC 배치로 저장합니다.
+ * 큐가 batchSize 만큼 차거나 flushIntervalMs 가 지나면 한 번에 INSERT 하며,
+ * 애플리케이션 종료 시 남은 로그를 모두 flush 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApiLogWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL = """
+            INSERT INTO api_logs (request_uri, method, client_ip, user_agent, request_params,
+                                  request_body, response_body, status_code, processing_time,
+                                  user_id, error_message, status, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApiLogProperties properties;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private BlockingQueue<Entry> queue;
+    private Thread worker;
+    private volatile boolean running;
+
+    private record Entry(ApiLog apiLog, LocalDateTime loggedAt) {}
+
+    // 종료 신호. 큐를 기다리던 worker 를 flush 주기를 기다리지 않고 바로 깨움
+    private static final Entry SHUTDOWN = new Entry(null, null);
+
+    /**
+     * 로그를 큐에 적재합니다. 요청 스레드에서는 DB 에 접근하지 않습니다.
+     * @return 적재 여부 (overflow 정책에 의해 버려진 경우 false)
+     */
+    public boolean enqueue(ApiLog apiLog) {
+        if (!running) {
+            droppedCount.incrementAndGet();
+            return false;
+        }
+
+        Entry entry = new Entry(apiLog, LocalDateTime.now());
+        boolean accepted = switch (properties.getOverflowPolicy()) {
+            case DROP -> queue.offer(entry);
+            case SAMPLE -> isSampled() && queue.offer(entry);
+            case BLOCK -> offerWithTimeout(entry);
+        };
+
+        if (!accepted) {
+            droppedCount.incrementAndGet();
+        }
+        return accepted;
+    }
+
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    public int getQueueSize() {
+        return queue != null ? queue.size() : 0;
+    }
+
+    @Override
+    public void start() {
+        queue = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+        running = true;
+        worker = new Thread(this::drainLoop, "api-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        // 큐가 가득 찼다면 worker 가 대기 중이 아니므로 신호 없이도 종료 조건을 확인함
+        queue.offer(SHUTDOWN);
+        try {
+            worker.join(properties.getShutdownTimeoutMs());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            log.warn("API 로그 {}건을 종료 전에 저장하지 못했습니다.", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        // 웹 서버가 요청 수신을 멈춘 뒤에 종료되도록 웹 서버보다 낮은 phase 사용
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private boolean isSampled() {
+        boolean aboveHighWaterMark = queue.size() >= properties.getQueueCapacity() * properties.getHighWaterMark();
+        return !aboveHighWaterMark || ThreadLocalRandom.current().nextInt(Math.max(1, properties.getSampleRate())) == 0;
+    }
+
+    private boolean offerWithTimeout(Entry entry) {
+        try {
+            return queue.offer(entry, properties.getBlockTimeoutMs(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void drainLoop() {
+        int batchSize = properties.getBatchSize();
+        long flushIntervalMs = properties.getFlushIntervalMs();
+        List<Entry> batch = new ArrayList<>(batchSize);
+
+        // 종료 요청 후에도 큐가 빌 때까지 flush
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null || first == SHUTDOWN) {
+                    continue;
+                }
+                batch.add(first);
+
+                // 배치가 차거나 flush 주기가 지날 때까지 모음
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize && running) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    Entry next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null || next == SHUTDOWN) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+                batch.removeIf(entry -> entry == SHUTDOWN);
+
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                running = false;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Entry> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), (ps, entry) -> {
+                ApiLog apiLog = entry.apiLog();
+                Timestamp loggedAt = Timestamp.valueOf(entry.loggedAt());
+                ps.setString(1, apiLog.getRequestUri());
+                ps.setString(2, apiLog.getMethod());
+                ps.setString(3, apiLog.getClientIp());
+                ps.setString(4, apiLog.getUserAgent());
+                ps.setString(5, apiLog.getRequestParams());
+                ps.setString(6, apiLog.getRequestBody());
+                ps.setString(7, apiLog.getResponseBody());
+                ps.setObject(8, apiLog.getStatusCode(), Types.INTEGER);
+                ps.setObject(9, apiLog.getProcessingTime(), Types.BIGINT);
+                ps.setObject(10, apiLog.getUserId(), Types.BIGINT);
+                ps.setString(11, apiLog.getErrorMessage());
+                ps.setString(12, apiLog.getStatus().name());
+                ps.setTimestamp(13, loggedAt);
+                ps.setTimestamp(14, loggedAt);
+            });
+            writtenCount.addAndGet(batch.size());
+        } catch (Exception e) {
+            droppedCount.addAndGet(batch.size());
+            log.error("API 로그 {}건 저장 실패", batch.size(), e);
+        }
+    }
+}
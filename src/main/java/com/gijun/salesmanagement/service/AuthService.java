@@ -2,17 +2,28 @@ package com.gijun.salesmanagement.service;
 
 import com.gijun.salesmanagement.domain.User;
 import com.gijun.salesmanagement.dto.AuthDto;
-import com.gijun.salesmanagement.exception.EntityNotFoundException;
+import com.gijun.salesmanagement.exception.UnauthorizedException;
 import com.gijun.salesmanagement.repository.UserRepository;
 import com.gijun.salesmanagement.security.JwtTokenProvider;
+import com.gijun.salesmanagement.security.RefreshTokenStore;
+import com.gijun.salesmanagement.security.UserPrincipal;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.UUID;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -21,6 +32,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenStore refreshTokenStore;
 
     @Transactional
     public void signUp(AuthDto.SignUpRequest request) {
@@ -39,7 +51,8 @@ public class AuthService {
         userRepository.save(user);
     }
 
-    @Transactional
+    // BCrypt 검증 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthDto.LoginResponse login(AuthDto.LoginRequest request) {
         // 1. Login Email/PW 기반으로 Authentication 객체 생성
         UsernamePasswordAuthenticationToken authenticationToken =
@@ -48,13 +61,15 @@ public class AuthService {
         // 2. 실제 검증
         Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
 
-        // 3. 인증 정보를 기반으로 JWT 토큰 생성
-        String accessToken = jwtTokenProvider.createAccessToken(authentication);
-        String refreshToken = jwtTokenProvider.createRefreshToken(authentication);
+        // 3. 인증 시 조회한 사용자 정보 사용
+        User user = (User) authentication.getPrincipal();
 
-        // 4. 사용자 정보 가져오기
-        User user = userRepository.findByEmail(request.email())
-                .orElseThrow(() -> new EntityNotFoundException("사용자를 찾을 수 없습니다."));
+        // 4. 인증 정보를 기반으로 JWT 토큰 생성 (Refresh Token 은 새 family 로 발급)
+        String accessToken = jwtTokenProvider.createAccessToken(authentication);
+        String familyId = UUID.randomUUID().toString();
+        String tokenId = UUID.randomUUID().toString();
+        refreshTokenStore.createFamily(familyId, tokenId, user.getId(), user.getEmail(), user.getRole().name());
+        String refreshToken = jwtTokenProvider.createRefreshToken(user.getEmail(), familyId, tokenId);
 
         return new AuthDto.LoginResponse(
                 accessToken,
@@ -64,4 +79,47 @@ public class AuthService {
                 user.getRole().name()
         );
     }
+
+    /**
+     * Refresh Token 을 교체하고 새 Access Token 을 발급합니다. DB 조회나 비밀번호 검증 없이 Redis 만 사용합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public AuthDto.TokenResponse refresh(AuthDto.RefreshRequest request) {
+        Claims claims = jwtTokenProvider.parseRefreshToken(request.refreshToken());
+        if (claims == null) {
+            throw new UnauthorizedException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        String familyId = jwtTokenProvider.getFamilyId(claims);
+        String newTokenId = UUID.randomUUID().toString();
+        RefreshTokenStore.Rotation rotation = refreshTokenStore.rotate(familyId, claims.getId(), newTokenId);
+
+        if (rotation.status() == RefreshTokenStore.RotationStatus.REUSED) {
+            log.warn("이미 사용된 리프레시 토큰 재사용 감지, family 폐기: {}", familyId);
+            throw new UnauthorizedException("이미 사용된 리프레시 토큰입니다. 다시 로그인해주세요.");
+        }
+        if (rotation.status() == RefreshTokenStore.RotationStatus.MISSING) {
+            throw new UnauthorizedException("만료되었거나 로그아웃된 리프레시 토큰입니다.");
+        }
+
+        List<GrantedAuthority> authorities = List.of(new SimpleGrantedAuthority(rotation.authorities()));
+        UserPrincipal principal = new UserPrincipal(rotation.userId(), rotation.email(), authorities);
+        Authentication authentication = new UsernamePasswordAuthenticationToken(principal, null, authorities);
+
+        return new AuthDto.TokenResponse(
+                jwtTokenProvider.createAccessToken(authentication),
+                jwtTokenProvider.createRefreshToken(rotation.email(), familyId, newTokenId)
+        );
+    }
+
+    /**
+     * Refresh Token family 를 폐기합니다. 이미 발급된 Access Token 은 만료 시까지 유효합니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logout(AuthDto.RefreshRequest request) {
+        Claims claims = jwtTokenProvider.parseRefreshToken(request.refreshToken());
+        if (claims != null) {
+            refreshTokenStore.revoke(jwtTokenProvider.getFamilyId(claims));
+        }
+    }
 }
\ No newline at end of file
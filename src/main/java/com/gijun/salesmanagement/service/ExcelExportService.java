@@ -0,0 +1,79 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.domain.ApiLog;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.StoreDto;
+import com.gijun.salesmanagement.repository.ApiLogRepository;
+import com.gijun.salesmanagement.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 매장 / API 로그를 XLSX 로 내보냅니다. DB 커서로 읽은 행을 SXSSF 워크북에 바로 기록합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ExcelExportService {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int CLEAR_INTERVAL = 1000;
+
+    static final ExcelSheetWriter<StoreDto.Response> STORE_SHEET = new ExcelSheetWriter<>("stores", List.of(
+            new ExcelSheetWriter.Column<>("매장 코드", StoreDto.Response::storeCode),
+            new ExcelSheetWriter.Column<>("매장명", StoreDto.Response::storeName),
+            new ExcelSheetWriter.Column<>("카테고리", StoreDto.Response::category),
+            new ExcelSheetWriter.Column<>("사업자 번호", StoreDto.Response::businessNumber),
+            new ExcelSheetWriter.Column<>("개장일", StoreDto.Response::openDate),
+            new ExcelSheetWriter.Column<>("폐점일", StoreDto.Response::closeDate),
+            new ExcelSheetWriter.Column<>("폐점 여부", StoreDto.Response::closeYn),
+            new ExcelSheetWriter.Column<>("매장 유형", StoreDto.Response::storeType),
+            new ExcelSheetWriter.Column<>("본사 매장 코드", StoreDto.Response::headquarterStoreCode),
+            new ExcelSheetWriter.Column<>("본사 매장명", StoreDto.Response::headquarterStoreName),
+            new ExcelSheetWriter.Column<>("등록일", StoreDto.Response::createdAt),
+            new ExcelSheetWriter.Column<>("수정일", StoreDto.Response::updatedAt),
+            new ExcelSheetWriter.Column<>("등록자", StoreDto.Response::createdBy),
+            new ExcelSheetWriter.Column<>("수정자", StoreDto.Response::updatedBy)
+    ), ROW_ACCESS_WINDOW);
+
+    static final ExcelSheetWriter<ApiLog> API_LOG_SHEET = new ExcelSheetWriter<>("api_logs", List.of(
+            new ExcelSheetWriter.Column<>("ID", ApiLog::getId),
+            new ExcelSheetWriter.Column<>("요청 시각", ApiLog::getCreatedAt),
+            new ExcelSheetWriter.Column<>("메서드", ApiLog::getMethod),
+            new ExcelSheetWriter.Column<>("URI", ApiLog::getRequestUri),
+            new ExcelSheetWriter.Column<>("상태 코드", ApiLog::getStatusCode),
+            new ExcelSheetWriter.Column<>("처리 시간(ms)", ApiLog::getProcessingTime),
+            new ExcelSheetWriter.Column<>("결과", ApiLog::getStatus),
+            new ExcelSheetWriter.Column<>("사용자 ID", ApiLog::getUserId),
+            new ExcelSheetWriter.Column<>("클라이언트 IP", ApiLog::getClientIp),
+            new ExcelSheetWriter.Column<>("User-Agent", ApiLog::getUserAgent),
+            new ExcelSheetWriter.Column<>("요청 파라미터", ApiLog::getRequestParams),
+            new ExcelSheetWriter.Column<>("에러 메시지", ApiLog::getErrorMessage)
+    ), ROW_ACCESS_WINDOW);
+
+    private final StoreRepository storeRepository;
+    private final ApiLogRepository apiLogRepository;
+    private final EntityManager entityManager;
+
+    @Transactional(readOnly = true)
+    public long exportStores(OutputStream outputStream) throws IOException {
+        try (Stream<Store> stores = storeRepository.streamAllForExport()) {
+            return STORE_SHEET.write(stores.map(StoreDto.Response::from).iterator(), outputStream,
+                    CLEAR_INTERVAL, entityManager::clear);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long exportApiLogs(LocalDateTime from, LocalDateTime to, OutputStream outputStream) throws IOException {
+        try (Stream<ApiLog> apiLogs = apiLogRepository.streamByCreatedAtBetween(from, to)) {
+            return API_LOG_SHEET.write(apiLogs.iterator(), outputStream, CLEAR_INTERVAL, entityManager::clear);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.gijun.salesmanagement.service;
+
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * SXSSF(스트리밍) 워크북으로 행을 기록합니다.
+ * 메모리에는 rowAccessWindow 만큼의 행만 유지되고 나머지는 압축된 임시 파일로 내려가므로
+ * 행 수와 관계없이 힙 사용량이 일정합니다. 시트 최대 행 수를 넘으면 다음 시트로 이어서 기록합니다.
+ */
+public class ExcelSheetWriter<T> {
+
+    private static final int MAX_DATA_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+    private final String sheetName;
+    private final List<Column<T>> columns;
+    private final int rowAccessWindow;
+
+    public record Column<T>(String header, Function<T, Object> extractor) {}
+
+    public ExcelSheetWriter(String sheetName, List<Column<T>> columns, int rowAccessWindow) {
+        this.sheetName = sheetName;
+        this.columns = columns;
+        this.rowAccessWindow = rowAccessWindow;
+    }
+
+    /**
+     * @param progressInterval progressCallback 을 호출할 행 간격 (영속성 컨텍스트 정리 등에 사용)
+     * @return 기록한 행 수
+     */
+    public long write(Iterator<T> rows, OutputStream outputStream,
+                      int progressInterval, Runnable progressCallback) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindow);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            CellStyle dateTimeStyle = workbook.createCellStyle();
+            dateTimeStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd hh:mm:ss"));
+
+            long count = 0;
+            int sheetIndex = 0;
+            Sheet sheet = createSheet(workbook, sheetIndex);
+            int rowIndex = 1;
+
+            while (rows.hasNext()) {
+                if (rowIndex > MAX_DATA_ROWS_PER_SHEET) {
+                    sheet = createSheet(workbook, ++sheetIndex);
+                    rowIndex = 1;
+                }
+
+                T item = rows.next();
+                Row row = sheet.createRow(rowIndex++);
+                for (int i = 0; i < columns.size(); i++) {
+                    setCellValue(row.createCell(i), columns.get(i).extractor().apply(item), dateStyle, dateTimeStyle);
+                }
+
+                if (++count % progressInterval == 0) {
+                    progressCallback.run();
+                }
+            }
+
+            workbook.write(outputStream);
+            return count;
+        } finally {
+            workbook.dispose();  // 임시 파일 삭제
+            workbook.close();
+        }
+    }
+
+    private Sheet createSheet(SXSSFWorkbook workbook, int sheetIndex) {
+        Sheet sheet = workbook.createSheet(sheetIndex == 0 ? sheetName : sheetName + "_" + (sheetIndex + 1));
+        Row header = sheet.createRow(0);
+        for (int i = 0; i < columns.size(); i++) {
+            header.createCell(i).setCellValue(columns.get(i).header());
+        }
+        return sheet;
+    }
+
+    private void setCellValue(Cell cell, Object value, CellStyle dateStyle, CellStyle dateTimeStyle) {
+        if (value == null) {
+            return;
+        }
+        if (value instanceof Number number) {
+            cell.setCellValue(number.doubleValue());
+        } else if (value instanceof LocalDateTime dateTime) {
+            cell.setCellValue(dateTime);
+            cell.setCellStyle(dateTimeStyle);
+        } else if (value instanceof LocalDate date) {
+            cell.setCellValue(date);
+            cell.setCellStyle(dateStyle);
+        } else {
+            cell.setCellValue(value.toString());
+        }
+    }
+}
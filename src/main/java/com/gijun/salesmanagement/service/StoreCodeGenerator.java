@@ -1,53 +1,139 @@
 package com.gijun.salesmanagement.service;
 
-import lombok.RequiredArgsConstructor;
+import com.gijun.salesmanagement.domain.StoreCodeSequence;
+import com.gijun.salesmanagement.repository.StoreCodeSequenceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 매장 코드(AA-000 ~ ZZ-999)를 발급합니다.
+ * DB 시퀀스 행에서 blockSize 만큼의 순번 구간을 예약한 뒤, 구간 안의 코드는 메모리에서 lock 없이 발급합니다.
+ * 노드마다 서로 다른 구간을 예약하므로 동시 발급 시에도 코드가 중복되지 않습니다.
+ */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class StoreCodeGenerator {
 
-    private final JdbcTemplate jdbcTemplate;
     private static final String ALPHABET = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+    private static final String SEQUENCE_NAME = "store_code";
+    private static final int NUMBER_RANGE = 1000;
+    private static final long MAX_ORDINAL = (long) ALPHABET.length() * ALPHABET.length() * NUMBER_RANGE - 1;  // ZZ-999
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final StoreCodeSequenceRepository sequenceRepository;
+    private final TransactionTemplate reserveTransaction;
+    private final int blockSize;
+    private final Timer reserveTimer;
+
+    private final AtomicReference<Block> currentBlock = new AtomicReference<>(Block.EMPTY);
+    private final ReentrantLock reserveLock = new ReentrantLock();
+
+    public StoreCodeGenerator(JdbcTemplate jdbcTemplate,
+                              StoreCodeSequenceRepository sequenceRepository,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${app.store-code.block-size:50}") int blockSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sequenceRepository = sequenceRepository;
+        this.blockSize = blockSize;
+
+        // 구간 예약은 호출한 트랜잭션과 분리하여 시퀀스 행의 lock 을 즉시 해제
+        this.reserveTransaction = new TransactionTemplate(transactionManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        // 구간 예약 (시퀀스 행 lock 대기 포함) 시간. 발급 자체의 시간은 app.method 로 기록
+        this.reserveTimer = Timer.builder("store.code.block.reserve").register(meterRegistry);
+    }
 
     public String generateStoreCode() {
-        // 현재 가장 큰 store_code 값을 조회
-        String sql = "SELECT store_code FROM stores ORDER BY store_code DESC LIMIT 1";
-        String lastCode = jdbcTemplate.query(sql,
-                        rs -> rs.next() ? rs.getString("store_code") : "AA-000")
-                .replace("-", "");
-
-        String alphabetPart = lastCode.substring(0, 2);
-        int numberPart = Integer.parseInt(lastCode.substring(2));
-
-        // 숫자 부분이 999를 넘어가면 알파벳을 증가
-        if (numberPart >= 999) {
-            alphabetPart = incrementAlphabet(alphabetPart);
-            numberPart = 0;
-        } else {
-            numberPart++;
+        while (true) {
+            Block block = currentBlock.get();
+            long ordinal = block.next().getAndIncrement();
+            if (ordinal < block.end()) {
+                return toStoreCode(ordinal);
+            }
+            refill(block);
         }
+    }
 
-        return String.format("%s-%03d", alphabetPart, numberPart);
+    private void refill(Block exhausted) {
+        reserveLock.lock();
+        try {
+            // 다른 스레드가 이미 새 구간을 예약했다면 그대로 사용
+            if (currentBlock.get() == exhausted) {
+                currentBlock.set(reserveTimer.record(this::reserveBlock));
+            }
+        } finally {
+            reserveLock.unlock();
+        }
     }
 
-    private String incrementAlphabet(String current) {
-        char[] chars = current.toCharArray();
-        int lastIndex = chars.length - 1;
+    private Block reserveBlock() {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                Long start = reserveTransaction.execute(status -> sequenceRepository.findByNameForUpdate(SEQUENCE_NAME)
+                        .orElseGet(this::initializeSequence)
+                        .reserve(blockSize));
 
-        // 마지막 문자부터 증가 시도
-        while (lastIndex >= 0) {
-            int index = ALPHABET.indexOf(chars[lastIndex]);
-            if (index < ALPHABET.length() - 1) {
-                chars[lastIndex] = ALPHABET.charAt(index + 1);
-                break;
-            } else {
-                chars[lastIndex] = 'A';
-                lastIndex--;
+                if (start == null || start > MAX_ORDINAL) {
+                    throw new IllegalStateException("발급 가능한 매장 코드가 모두 소진되었습니다.");
+                }
+                return new Block(new AtomicLong(start), Math.min(start + blockSize, MAX_ORDINAL + 1));
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                // 여러 노드가 동시에 시퀀스 행을 초기화한 경우 재시도
+                if (attempt >= MAX_RESERVE_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("매장 코드 구간 예약 충돌, 재시도 {}/{}", attempt, MAX_RESERVE_ATTEMPTS);
             }
         }
+    }
 
+    private StoreCodeSequence initializeSequence() {
+        // 시퀀스 행이 없으면 기존 최대 매장 코드의 다음 순번부터 시작 (최초 1회)
+        String sql = "SELECT store_code FROM stores ORDER BY store_code DESC LIMIT 1";
+        String lastCode = jdbcTemplate.query(sql,
+                rs -> rs.next() ? rs.getString("store_code") : "AA-000");
+
+        return sequenceRepository.saveAndFlush(new StoreCodeSequence(SEQUENCE_NAME, toOrdinal(lastCode) + 1));
+    }
+
+    static String toStoreCode(long ordinal) {
+        int alphabetIndex = (int) (ordinal / NUMBER_RANGE);
+        int numberPart = (int) (ordinal % NUMBER_RANGE);
+
+        char[] chars = new char[6];
+        chars[0] = ALPHABET.charAt(alphabetIndex / ALPHABET.length());
+        chars[1] = ALPHABET.charAt(alphabetIndex % ALPHABET.length());
+        chars[2] = '-';
+        chars[3] = (char) ('0' + numberPart / 100);
+        chars[4] = (char) ('0' + numberPart / 10 % 10);
+        chars[5] = (char) ('0' + numberPart % 10);
         return new String(chars);
     }
-}
\ No newline at end of file
+
+    static long toOrdinal(String storeCode) {
+        int first = ALPHABET.indexOf(storeCode.charAt(0));
+        int second = ALPHABET.indexOf(storeCode.charAt(1));
+        int numberPart = Integer.parseInt(storeCode.substring(3));
+        return ((long) first * ALPHABET.length() + second) * NUMBER_RANGE + numberPart;
+    }
+
+    private record Block(AtomicLong next, long end) {
+        private static final Block EMPTY = new Block(new AtomicLong(), 0);
+    }
+}
@@ -0,0 +1,120 @@
+package com.gijun.salesmanagement.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.StoreDto;
+import com.gijun.salesmanagement.dto.common.ExportFormat;
+import com.gijun.salesmanagement.repository.StoreRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 매장을 DB 커서로 한 건씩 읽어 응답 스트림에 바로 기록합니다.
+ * 목록을 메모리에 적재하지 않으며, 영속성 컨텍스트를 주기적으로 비워 메모리 사용량을 일정하게 유지합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StoreExportService {
+
+    private static final int CLEAR_INTERVAL = 1000;
+    private static final String[] CSV_HEADER = {
+            "storeCode", "storeName", "category", "businessNumber", "openDate", "closeDate", "closeYn",
+            "storeType", "headquarterStoreCode", "headquarterStoreName", "createdAt", "updatedAt",
+            "createdBy", "updatedBy"
+    };
+
+    private final StoreRepository storeRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+    private final ExcelExportService excelExportService;
+
+    /**
+     * @return 기록한 매장 수
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case XLSX -> excelExportService.exportStores(outputStream);
+            case NDJSON, CSV -> writeText(format, outputStream);
+        };
+    }
+
+    private long writeText(ExportFormat format, OutputStream outputStream) throws IOException {
+        try (Stream<Store> stores = storeRepository.streamAllForExport()) {
+            return format == ExportFormat.CSV
+                    ? writeCsv(stores.iterator(), outputStream)
+                    : writeNdjson(stores.iterator(), outputStream);
+        }
+    }
+
+    private long writeNdjson(Iterator<Store> stores, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.setRootValueSeparator(null);
+
+        long count = 0;
+        while (stores.hasNext()) {
+            generator.writeObject(StoreDto.Response.from(stores.next()));
+            generator.writeRaw('\n');
+            if (++count % CLEAR_INTERVAL == 0) {
+                generator.flush();
+                entityManager.clear();
+            }
+        }
+        generator.close();
+        return count;
+    }
+
+    private long writeCsv(Iterator<Store> stores, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');  // 엑셀에서 한글이 깨지지 않도록 BOM 기록
+        writeCsvRow(writer, (Object[]) CSV_HEADER);
+
+        long count = 0;
+        while (stores.hasNext()) {
+            StoreDto.Response store = StoreDto.Response.from(stores.next());
+            writeCsvRow(writer,
+                    store.storeCode(), store.storeName(), store.category(), store.businessNumber(),
+                    store.openDate(), store.closeDate(), store.closeYn(), store.storeType(),
+                    store.headquarterStoreCode(), store.headquarterStoreName(), store.createdAt(),
+                    store.updatedAt(), store.createdBy(), store.updatedBy());
+            if (++count % CLEAR_INTERVAL == 0) {
+                writer.flush();
+                entityManager.clear();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escapeCsv(values[i].toString()));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private String escapeCsv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,161 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.StoreDto;
+import com.gijun.salesmanagement.event.StoreChangedEvent;
+import com.gijun.salesmanagement.repository.StoreRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 본사 / 가맹점 관계(매장 유형, 소속 본사, 운영 여부)와 본사별 운영중인 가맹점 수를 메모리에 유지합니다.
+ * 가맹점 목록은 페이지 단위로 DB 에서 조회하므로 보관하지 않습니다.
+ * 시작 시 DB 에서 구성하고, 커밋된 매장 등록 / 폐점 이벤트로 갱신하며, 다른 노드의 변경은 주기적인 재구성으로 반영합니다.
+ * 조회는 락 없이 처리되며, 구성 전이거나 인덱스에 없는 매장은 호출하는 쪽에서 DB 로 확인합니다.
+ */
+@Slf4j
+@Component
+public class StoreHierarchyIndex {
+
+    private final StoreRepository storeRepository;
+
+    private volatile Snapshot snapshot;
+
+    // 재구성 중 적용된 이벤트. 새 스냅샷에 다시 적용하여 조회와 교체 사이의 변경이 유실되지 않도록 함
+    private List<StoreChangedEvent> journal;
+
+    public record Node(Long id, Store.StoreType storeType, String headquarterStoreCode, boolean active) {}
+
+    /**
+     * @param activeFranchiseCounts 본사 매장 코드 → 운영중인 가맹점 수
+     */
+    private record Snapshot(ConcurrentHashMap<String, Node> nodes,
+                            ConcurrentHashMap<String, AtomicInteger> activeFranchiseCounts) {
+        private Snapshot() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+
+    public StoreHierarchyIndex(StoreRepository storeRepository, MeterRegistry meterRegistry) {
+        this.storeRepository = storeRepository;
+        Gauge.builder("store.hierarchy.size", this, index -> {
+            Snapshot current = index.snapshot;
+            return current != null ? current.nodes().size() : 0;
+        }).register(meterRegistry);
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * @return 인덱스에 없으면 null
+     */
+    public Node find(String storeCode) {
+        Snapshot current = snapshot;
+        return current != null ? current.nodes().get(storeCode) : null;
+    }
+
+    public int countActiveFranchises(String headquarterStoreCode) {
+        Snapshot current = snapshot;
+        AtomicInteger count = current != null ? current.activeFranchiseCounts().get(headquarterStoreCode) : null;
+        return count != null ? count.get() : 0;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onStoreChanged(StoreChangedEvent event) {
+        if (snapshot != null) {
+            apply(snapshot, event);
+        }
+        if (journal != null) {
+            journal.add(event);
+        }
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    // 다른 노드에서 등록 / 폐점된 매장을 반영
+    @Scheduled(initialDelayString = "${app.store-hierarchy.resync-interval-ms:300000}",
+            fixedDelayString = "${app.store-hierarchy.resync-interval-ms:300000}")
+    public void resync() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        synchronized (this) {
+            journal = new ArrayList<>();
+        }
+
+        Snapshot rebuilt = new Snapshot();
+        try {
+            for (StoreDto.HierarchyRow row : storeRepository.findAllHierarchyRows()) {
+                put(rebuilt, row.storeCode(), new Node(row.id(), row.storeType(),
+                        row.headquarterStoreCode(), !"Y".equals(row.closeYn())));
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                journal = null;
+            }
+            log.warn("매장 계층 인덱스 구성 실패", e);
+            return;
+        }
+
+        synchronized (this) {
+            journal.forEach(event -> apply(rebuilt, event));
+            journal = null;
+            snapshot = rebuilt;
+        }
+        log.info("매장 계층 인덱스 구성 완료: {}건", rebuilt.nodes().size());
+    }
+
+    private void apply(Snapshot target, StoreChangedEvent event) {
+        if (event.type() == StoreChangedEvent.ChangeType.UPDATED) {
+            return;  // 본사 관계와 운영 여부는 수정되지 않음
+        }
+        Node previous = target.nodes().get(event.storeCode());
+        Long id = event.storeId() != null ? event.storeId() : previous != null ? previous.id() : null;
+        put(target, event.storeCode(), new Node(id, event.storeType(),
+                event.headquarterStoreCode(), !"Y".equals(event.closeYn())));
+    }
+
+    private void put(Snapshot target, String storeCode, Node node) {
+        Node previous = target.nodes().put(storeCode, node);
+
+        // 운영 중 소속 본사가 바뀐 경우에만 개수 조정 (재구성 시 같은 이벤트가 다시 적용되어도 중복 집계하지 않음)
+        String previousHeadquarter = activeHeadquarterOf(previous);
+        String currentHeadquarter = activeHeadquarterOf(node);
+        if (Objects.equals(previousHeadquarter, currentHeadquarter)) {
+            return;
+        }
+        if (previousHeadquarter != null) {
+            target.activeFranchiseCounts().get(previousHeadquarter).decrementAndGet();
+        }
+        if (currentHeadquarter != null) {
+            target.activeFranchiseCounts().computeIfAbsent(currentHeadquarter, key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    // 운영중인 가맹점이면 소속 본사 코드, 아니면 null
+    private String activeHeadquarterOf(Node node) {
+        return node != null && node.active() && node.storeType() == Store.StoreType.FRANCHISE
+                ? node.headquarterStoreCode() : null;
+    }
+}
@@ -0,0 +1,154 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.batch.StoreImportJobConfig;
+import com.gijun.salesmanagement.batch.XlsxCsvConverter;
+import com.gijun.salesmanagement.config.StoreImportProperties;
+import com.gijun.salesmanagement.dto.StoreImportDto;
+import com.gijun.salesmanagement.exception.EntityNotFoundException;
+import com.gijun.salesmanagement.exception.InvalidValueException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.support.TaskExecutorJobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.UUID;
+
+/**
+ * 매장 일괄 등록 작업을 비동기로 실행하고 진행 상태를 조회합니다.
+ */
+@Slf4j
+@Service
+public class StoreImportService {
+
+    private final Job storeImportJob;
+    private final JobExplorer jobExplorer;
+    private final UserService userService;
+    private final StoreImportProperties properties;
+    private final TaskExecutorJobLauncher jobLauncher;
+
+    public StoreImportService(Job storeImportJob, JobRepository jobRepository, JobExplorer jobExplorer,
+                              UserService userService, StoreImportProperties properties,
+                              @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) throws Exception {
+        this.storeImportJob = storeImportJob;
+        this.jobExplorer = jobExplorer;
+        this.userService = userService;
+        this.properties = properties;
+
+        // 요청 스레드를 점유하지 않도록 작업은 별도 스레드에서 실행
+        this.jobLauncher = new TaskExecutorJobLauncher();
+        this.jobLauncher.setJobRepository(jobRepository);
+        SimpleAsyncTaskExecutor taskExecutor = new SimpleAsyncTaskExecutor("store-import-job-");
+        taskExecutor.setVirtualThreads(virtualThreads);
+        this.jobLauncher.setTaskExecutor(taskExecutor);
+        this.jobLauncher.afterPropertiesSet();
+    }
+
+    public StoreImportDto.Response startImport(MultipartFile file) {
+        Path csv = storeUpload(file);
+
+        JobParameters parameters = new JobParametersBuilder()
+                .addString(StoreImportJobConfig.FILE_PATH, csv.toString())
+                .addLong(StoreImportJobConfig.REQUESTED_BY, userService.getCurrentUser().getId())
+                .toJobParameters();
+        return run(parameters);
+    }
+
+    /**
+     * 실패하거나 중단된 작업을 같은 파라미터로 다시 실행합니다.
+     */
+    public StoreImportDto.Response restartImport(Long jobExecutionId) {
+        JobExecution execution = findExecution(jobExecutionId);
+        if (execution.getStatus() != BatchStatus.FAILED && execution.getStatus() != BatchStatus.STOPPED) {
+            throw new InvalidValueException("실패하거나 중단된 작업만 재시작할 수 있습니다.");
+        }
+        return run(execution.getJobParameters());
+    }
+
+    public StoreImportDto.Response getImport(Long jobExecutionId) {
+        return toResponse(findExecution(jobExecutionId));
+    }
+
+    private StoreImportDto.Response run(JobParameters parameters) {
+        try {
+            return toResponse(jobLauncher.run(storeImportJob, parameters));
+        } catch (JobExecutionException e) {
+            throw new InvalidValueException("매장 일괄 등록 작업을 실행할 수 없습니다: " + e.getMessage());
+        }
+    }
+
+    private JobExecution findExecution(Long jobExecutionId) {
+        JobExecution execution = jobExplorer.getJobExecution(jobExecutionId);
+        if (execution == null || !StoreImportJobConfig.JOB_NAME.equals(execution.getJobInstance().getJobName())) {
+            throw new EntityNotFoundException("존재하지 않는 매장 일괄 등록 작업입니다.");
+        }
+        return execution;
+    }
+
+    private Path storeUpload(MultipartFile file) {
+        String filename = file.getOriginalFilename() != null ? file.getOriginalFilename().toLowerCase(Locale.ROOT) : "";
+        boolean xlsx = filename.endsWith(".xlsx");
+        if (!xlsx && !filename.endsWith(".csv")) {
+            throw new InvalidValueException("CSV 또는 XLSX 파일만 업로드할 수 있습니다.");
+        }
+
+        try {
+            Path uploadDir = Files.createDirectories(Path.of(properties.getUploadDir()));
+            String baseName = UUID.randomUUID().toString();
+            Path csv = uploadDir.resolve(baseName + ".csv");
+
+            if (!xlsx) {
+                file.transferTo(csv);
+                return csv;
+            }
+
+            Path upload = uploadDir.resolve(baseName + ".xlsx");
+            file.transferTo(upload);
+            try {
+                XlsxCsvConverter.convert(upload, csv);
+            } finally {
+                Files.deleteIfExists(upload);
+            }
+            return csv;
+        } catch (IOException e) {
+            log.error("매장 일괄 등록 파일 저장 실패", e);
+            throw new InvalidValueException("업로드 파일을 저장할 수 없습니다.");
+        }
+    }
+
+    private StoreImportDto.Response toResponse(JobExecution execution) {
+        long writeCount = 0;
+        long skipCount = 0;
+        for (StepExecution step : execution.getStepExecutions()) {
+            // 파티션(worker) 단계만 집계하여 manager 단계와 중복 집계하지 않음
+            if (step.getStepName().contains(":")) {
+                writeCount += step.getWriteCount();
+                skipCount += step.getSkipCount();
+            }
+        }
+        return new StoreImportDto.Response(
+                execution.getId(),
+                execution.getStatus().name(),
+                execution.getExitStatus().getExitCode(),
+                execution.getExitStatus().getExitDescription(),
+                writeCount,
+                skipCount,
+                execution.getStartTime(),
+                execution.getEndTime()
+        );
+    }
+}
@@ -0,0 +1,250 @@
+package com.gijun.salesmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.gijun.salesmanagement.config.AsyncConfig;
+import com.gijun.salesmanagement.config.StoreCacheProperties;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.StoreDto;
+import com.gijun.salesmanagement.dto.common.ApiResponse;
+import com.gijun.salesmanagement.event.StoreChangedEvent;
+import com.gijun.salesmanagement.event.UserChangedEvent;
+import com.gijun.salesmanagement.exception.ServiceUnavailableException;
+import com.google.common.hash.Hashing;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 운영중인 매장 목록 조회 결과를 목록 종류(View)별로 직렬화된 응답 본문(JSON, gzip)과 ETag 로 보관합니다.
+ * 매장 / 사용자 변경이 커밋되면 해당 목록의 세대를 올리고 백그라운드에서 다시 구성하며, 구성이 끝날 때까지는 이전 스냅샷을 응답합니다.
+ * 다른 노드의 변경은 최대 사용 시간(listSnapshotMaxAgeSeconds)이 지난 스냅샷을 다시 구성할 때 반영되며, 이때도 구성이 끝날 때까지는 이전 스냅샷을 응답합니다.
+ * ETag 는 매장 목록 JSON 만으로 계산하므로, 다시 구성한 결과가 같으면 이전 본문과 ETag 를 그대로 사용하여 304 응답을 유지합니다.
+ */
+@Slf4j
+@Component
+public class StoreListSnapshotCache {
+
+    private final StoreService storeService;
+    private final ObjectMapper objectMapper;
+    private final StoreCacheProperties properties;
+    private final TaskExecutor executor;
+    private final ConcurrentHashMap<View, ViewState> views = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Timer rebuildTimer;
+
+    /**
+     * @param storeType null 이면 전체
+     */
+    public record View(Store.StoreType storeType, Store.StoreCategory category) {
+        public static View ofStoreType(Store.StoreType storeType) {
+            return new View(storeType, null);
+        }
+
+        public static View ofCategory(Store.StoreCategory category) {
+            return new View(null, category);
+        }
+    }
+
+    /**
+     * @param gzipBody 본문이 작아 압축하지 않은 경우 null
+     * @param etag     매장 목록 JSON(data) 의 해시 (gzipBody 는 etag + "-gzip")
+     */
+    public record Snapshot(long generation, String etag, byte[] body, byte[] gzipBody, long builtAtNanos) {
+        public String gzipEtag() {
+            return etag + "-gzip";
+        }
+    }
+
+    private static final class ViewState {
+        private final AtomicLong generation = new AtomicLong();
+        private volatile Snapshot snapshot;
+        // 진행 중인 재구성. 진행 중에 변경이 생기면 rerun 으로 표시하여 끝난 뒤 한 번 더 구성 (guarded by this)
+        private CompletableFuture<Snapshot> pending;
+        private boolean rerun;
+    }
+
+    public StoreListSnapshotCache(StoreService storeService, ObjectMapper objectMapper, StoreCacheProperties properties,
+                                  @Qualifier(AsyncConfig.STORE_LIST_SNAPSHOT_EXECUTOR) TaskExecutor executor,
+                                  MeterRegistry meterRegistry) {
+        this.storeService = storeService;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.executor = executor;
+
+        this.hits = meterRegistry.counter("store.list.snapshot", "result", "hit");
+        this.staleHits = meterRegistry.counter("store.list.snapshot", "result", "stale");
+        this.misses = meterRegistry.counter("store.list.snapshot", "result", "miss");
+        this.rebuildTimer = Timer.builder("store.list.snapshot.rebuild").register(meterRegistry);
+    }
+
+    /**
+     * 최대 사용 시간이 지났으면 백그라운드 재구성을 시작하고 이전 스냅샷을 응답합니다.
+     * 스냅샷이 아직 없는 경우에만 구성이 끝날 때까지 기다립니다 (같은 목록의 동시 요청은 한 번만 구성).
+     */
+    public Snapshot get(View view) {
+        ViewState state = views.computeIfAbsent(view, key -> new ViewState());
+        Snapshot snapshot = state.snapshot;
+        if (snapshot != null) {
+            boolean expired = System.nanoTime() - snapshot.builtAtNanos()
+                    >= TimeUnit.SECONDS.toNanos(properties.getListSnapshotMaxAgeSeconds());
+            if (expired) {
+                rebuild(view, state, false);
+            }
+            // 변경 / 만료 이후 재구성 중이면 이전 스냅샷을 응답
+            (!expired && snapshot.generation() == state.generation.get() ? hits : staleHits).increment();
+            return snapshot;
+        }
+
+        misses.increment();
+        try {
+            return rebuild(view, state, false).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        // 본사 정보 변경은 가맹점 응답의 본사명에도 반영되어야 하므로 전체 목록을 다시 구성
+        boolean all = event.storeType() == Store.StoreType.HEADQUARTER
+                && event.type() == StoreChangedEvent.ChangeType.UPDATED;
+        views.forEach((view, state) -> {
+            if (all || affects(view, event)) {
+                invalidate(view, state);
+            }
+        });
+    }
+
+    // 응답에 포함된 등록자 / 수정자 이름 변경
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        views.forEach(this::invalidate);
+    }
+
+    private boolean affects(View view, StoreChangedEvent event) {
+        if (view.category() != null) {
+            return view.category() == event.category() || view.category() == event.previousCategory();
+        }
+        return view.storeType() == null || view.storeType() == event.storeType();
+    }
+
+    private void invalidate(View view, ViewState state) {
+        state.generation.incrementAndGet();
+        rebuild(view, state, true);
+    }
+
+    /**
+     * @param changed 변경으로 인한 재구성이면 true. 진행 중인 재구성이 변경 이전 데이터를 읽었을 수 있으므로 끝난 뒤 한 번 더 구성
+     */
+    private CompletableFuture<Snapshot> rebuild(View view, ViewState state, boolean changed) {
+        CompletableFuture<Snapshot> future;
+        synchronized (state) {
+            if (state.pending != null) {
+                state.rerun |= changed;
+                return state.pending;
+            }
+            future = new CompletableFuture<>();
+            state.pending = future;
+        }
+
+        try {
+            executor.execute(() -> runRebuild(view, state, future));
+        } catch (RuntimeException e) {
+            log.warn("매장 목록 스냅샷 재구성 작업을 등록하지 못했습니다: {}", e.getMessage());
+            synchronized (state) {
+                state.pending = null;
+                state.rerun = false;
+            }
+            future.completeExceptionally(new ServiceUnavailableException("매장 목록을 조회할 수 없습니다. 잠시 후 다시 시도해주세요."));
+        }
+        return future;
+    }
+
+    private void runRebuild(View view, ViewState state, CompletableFuture<Snapshot> future) {
+        Snapshot snapshot = null;
+        RuntimeException failure = null;
+        try {
+            snapshot = rebuildTimer.record(() -> build(view, state.generation.get(), state.snapshot));
+            state.snapshot = snapshot;
+        } catch (RuntimeException e) {
+            log.error("매장 목록 스냅샷 구성 실패: {}", view, e);
+            failure = e;
+        }
+
+        boolean rerun;
+        synchronized (state) {
+            state.pending = null;
+            rerun = state.rerun;
+            state.rerun = false;
+        }
+
+        if (failure != null) {
+            future.completeExceptionally(failure);
+        } else {
+            future.complete(snapshot);
+        }
+        if (rerun) {
+            rebuild(view, state, true);
+        }
+    }
+
+    /**
+     * @param previous 목록이 바뀌지 않았으면 본문과 ETag 를 재사용할 이전 스냅샷 (없으면 null)
+     */
+    private Snapshot build(View view, long generation, Snapshot previous) {
+        List<StoreDto.Response> stores = view.category() != null
+                ? storeService.getActiveStoresByCategory(view.category())
+                : storeService.getActiveStoresByType(view.storeType());
+
+        try {
+            // 응답 timestamp 는 구성할 때마다 바뀌므로 ETag 는 data 부분만으로 계산
+            String data = objectMapper.writeValueAsString(stores);
+            String etag = Hashing.sha256().hashUnencodedChars(data).toString().substring(0, 32);
+            if (previous != null && previous.etag().equals(etag)) {
+                return new Snapshot(generation, etag, previous.body(), previous.gzipBody(), System.nanoTime());
+            }
+
+            byte[] body = objectMapper.writeValueAsBytes(ApiResponse.success(new RawValue(data)));
+
+            int gzipMinBytes = properties.getListSnapshotGzipMinBytes();
+            byte[] gzipBody = gzipMinBytes > 0 && body.length >= gzipMinBytes ? gzip(body) : null;
+            return new Snapshot(generation, etag, body, gzipBody, System.nanoTime());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("매장 목록 직렬화 실패: " + view, e);
+        }
+    }
+
+    private byte[] gzip(byte[] body) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
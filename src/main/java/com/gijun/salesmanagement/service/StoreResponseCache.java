@@ -0,0 +1,168 @@
+package com.gijun.salesmanagement.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gijun.salesmanagement.config.StoreCacheProperties;
+import com.gijun.salesmanagement.dto.StoreDto;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 매장 코드별 {@link StoreDto.Response} 2단 캐시 (로컬 LRU/TTL → Redis → DB).
+ * 변경은 트랜잭션 커밋 이후에 반영하며, Redis 장애 시에는 DB 조회로 대체합니다.
+ */
+@Slf4j
+@Component
+public class StoreResponseCache {
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final StoreCacheProperties properties;
+    private final Cache<String, StoreDto.Response> localCache;
+
+    private final Counter redisHits;
+    private final Counter redisMisses;
+    private final Counter redisErrors;
+
+    public StoreResponseCache(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                              StoreCacheProperties properties, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.localCache = CacheBuilder.newBuilder()
+                .maximumSize(properties.getLocalMaximumSize())
+                .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+                .recordStats()
+                .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, localCache, "store.response.local");
+        this.redisHits = Counter.builder("store.response.redis")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.redisMisses = Counter.builder("store.response.redis")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.redisErrors = Counter.builder("store.response.redis")
+                .tag("result", "error")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 조회하고, 없으면 loader 로 조회한 결과를 두 캐시에 저장합니다.
+     * loader 결과는 비어 있는 경우에만 저장하여, 조회 중에 커밋된 변경(putAfterCommit)을 이전 값으로 덮어쓰지 않습니다.
+     */
+    public StoreDto.Response get(String storeCode, Supplier<StoreDto.Response> loader) {
+        StoreDto.Response response = localCache.getIfPresent(storeCode);
+        if (response != null) {
+            return response;
+        }
+
+        response = readRedis(storeCode);
+        if (response == null) {
+            response = loader.get();
+            writeRedisIfAbsent(response);
+        }
+        StoreDto.Response existing = localCache.asMap().putIfAbsent(storeCode, response);
+        return existing != null ? existing : response;
+    }
+
+    /**
+     * 커밋 이후 변경된 응답을 두 캐시에 기록합니다 (write-through).
+     */
+    public void putAfterCommit(StoreDto.Response response) {
+        afterCommit(() -> {
+            localCache.put(response.storeCode(), response);
+            writeRedis(response);
+        });
+    }
+
+    /**
+     * 커밋 이후 두 캐시에서 제거합니다.
+     */
+    public void evictAfterCommit(Collection<String> storeCodes) {
+        if (storeCodes.isEmpty()) {
+            return;
+        }
+        afterCommit(() -> {
+            localCache.invalidateAll(storeCodes);
+            try {
+                redisTemplate.delete(storeCodes.stream().map(this::redisKey).toList());
+            } catch (Exception e) {
+                redisErrors.increment();
+                log.warn("Redis 매장 캐시 삭제 실패: {}", e.getMessage());
+            }
+        });
+    }
+
+    private StoreDto.Response readRedis(String storeCode) {
+        try {
+            String json = redisTemplate.opsForValue().get(redisKey(storeCode));
+            if (json == null) {
+                redisMisses.increment();
+                return null;
+            }
+            redisHits.increment();
+            return objectMapper.readValue(json, StoreDto.Response.class);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("Redis 매장 캐시 조회 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(StoreDto.Response response) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(response.storeCode()),
+                    objectMapper.writeValueAsString(response),
+                    Duration.ofSeconds(properties.getRedisTtlSeconds()));
+        } catch (JsonProcessingException e) {
+            log.error("매장 캐시 직렬화 실패: {}", response.storeCode(), e);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("Redis 매장 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    // SET NX: 조회 이후에 커밋된 write-through 값이 있으면 그대로 둠
+    private void writeRedisIfAbsent(StoreDto.Response response) {
+        try {
+            redisTemplate.opsForValue().setIfAbsent(redisKey(response.storeCode()),
+                    objectMapper.writeValueAsString(response),
+                    Duration.ofSeconds(properties.getRedisTtlSeconds()));
+        } catch (JsonProcessingException e) {
+            log.error("매장 캐시 직렬화 실패: {}", response.storeCode(), e);
+        } catch (Exception e) {
+            redisErrors.increment();
+            log.warn("Redis 매장 캐시 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private String redisKey(String storeCode) {
+        return properties.getRedisKeyPrefix() + storeCode;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -3,12 +3,16 @@ package com.gijun.salesmanagement.service;
 import com.gijun.salesmanagement.domain.Store;
 import com.gijun.salesmanagement.domain.User;
 import com.gijun.salesmanagement.dto.StoreDto;
+import com.gijun.salesmanagement.dto.common.CursorPage;
+import com.gijun.salesmanagement.event.StoreChangedEvent;
 import com.gijun.salesmanagement.exception.DuplicateEntityException;
 import com.gijun.salesmanagement.exception.EntityNotFoundException;
 import com.gijun.salesmanagement.exception.InvalidValueException;
 import com.gijun.salesmanagement.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
@@ -20,9 +24,14 @@ import java.util.Objects;
 @Transactional(readOnly = true)
 public class StoreService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final StoreRepository storeRepository;
     private final StoreCodeGenerator storeCodeGenerator;
     private final UserService userService;
+    private final StoreResponseCache storeResponseCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final StoreHierarchyIndex storeHierarchyIndex;
 
     @Transactional
     public StoreDto.Response createStore(StoreDto.CreateRequest request) {
@@ -38,12 +47,7 @@ public class StoreService {
                 throw new InvalidValueException("가맹점 등록 시 본사 매장 코드는 필수입니다.");
             }
 
-            headquarter = storeRepository.findByStoreCode(request.headquarterStoreCode())
-                    .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 본사 매장입니다."));
-
-            if (headquarter.getStoreType() != Store.StoreType.HEADQUARTER) {
-                throw new InvalidValueException("선택한 매장이 본사가 아닙니다.");
-            }
+            headquarter = findHeadquarter(request.headquarterStoreCode());
         }
 
         User currentUser = userService.getCurrentUser();
@@ -63,7 +67,10 @@ public class StoreService {
         store.setStoreCode(storeCodeGenerator.generateStoreCode());
 
         Store savedStore = storeRepository.save(store);
-        return StoreDto.Response.from(savedStore);
+        StoreDto.Response response = StoreDto.Response.from(savedStore);
+        storeResponseCache.putAfterCommit(response);
+        eventPublisher.publishEvent(StoreChangedEvent.of(StoreChangedEvent.ChangeType.CREATED, savedStore, null));
+        return response;
     }
 
     @Transactional
@@ -76,7 +83,14 @@ public class StoreService {
             throw new DuplicateEntityException("이미 등록된 사업자번호입니다.");
         }
 
+        // 본사명이 바뀌면 가맹점 응답에 포함된 본사명도 갱신되어야 함
+        if (store.getStoreType() == Store.StoreType.HEADQUARTER
+                && !Objects.equals(store.getStoreName(), request.storeName())) {
+            storeResponseCache.evictAfterCommit(storeRepository.findStoreCodesByHeadquarter(store));
+        }
+
         User currentUser = userService.getCurrentUser();
+        Store.StoreCategory previousCategory = store.getCategory();
 
         store.updateStoreInfo(
                 request.storeName(),
@@ -86,7 +100,10 @@ public class StoreService {
                 currentUser
         );
 
-        return StoreDto.Response.from(store);
+        StoreDto.Response response = StoreDto.Response.from(store);
+        storeResponseCache.putAfterCommit(response);
+        eventPublisher.publishEvent(StoreChangedEvent.of(StoreChangedEvent.ChangeType.UPDATED, store, previousCategory));
+        return response;
     }
 
     @Transactional
@@ -96,7 +113,9 @@ public class StoreService {
 
         // 본사 매장인 경우, 운영중인 가맹점이 있는지 확인
         if (store.getStoreType() == Store.StoreType.HEADQUARTER) {
-            boolean hasActiveFranchise = storeRepository.existsActiveStoresByHeadquarter(store);
+            // 인덱스에 가맹점이 있으면 바로 거절하고, 없으면 다른 노드의 미반영 등록이 있을 수 있으므로 DB 로 확인
+            boolean hasActiveFranchise = storeHierarchyIndex.countActiveFranchises(storeCode) > 0
+                    || storeRepository.existsActiveStoresByHeadquarter(store);
             if (hasActiveFranchise) {
                 throw new InvalidValueException("운영중인 가맹점이 있는 본사는 폐점할 수 없습니다.");
             }
@@ -109,40 +128,72 @@ public class StoreService {
         User currentUser = userService.getCurrentUser();
         store.closeStore(request.closeDate(), currentUser);
 
-        return StoreDto.Response.from(store);
+        StoreDto.Response response = StoreDto.Response.from(store);
+        storeResponseCache.putAfterCommit(response);
+        eventPublisher.publishEvent(StoreChangedEvent.of(StoreChangedEvent.ChangeType.CLOSED, store, null));
+        return response;
     }
 
+    // 캐시 적중 시 커넥션을 점유하지 않도록 트랜잭션 없이 조회 (loader 는 연관 엔티티를 함께 조회하는 단일 쿼리)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StoreDto.Response getStore(String storeCode) {
-        Store store = storeRepository.findByStoreCode(storeCode)
-                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 매장입니다."));
+        return storeResponseCache.get(storeCode, () -> storeRepository.findResponseByStoreCode(storeCode)
+                .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 매장입니다.")));
+    }
+
+    public List<StoreDto.Response> searchStores(StoreDto.SearchCondition condition) {
+        return storeRepository.searchActiveStores(condition);
+    }
+
+    public CursorPage<StoreDto.Response> searchStorePage(StoreDto.SearchCondition condition, String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
 
-        return StoreDto.Response.from(store);
+        // 다음 페이지 존재 여부 확인을 위해 1건 더 조회
+        List<StoreDto.Response> rows = storeRepository.searchActiveStores(condition, cursor, pageSize + 1);
+        return CursorPage.of(rows, pageSize, StoreDto.Response::storeCode);
     }
 
-    public List<StoreDto.Response> getAllActiveStores() {
-        return storeRepository.findAllActiveStores().stream()
-                .map(StoreDto.Response::from)
-                .toList();
+    public List<StoreDto.Response> getActiveStoresByType(Store.StoreType storeType) {
+        return searchStores(StoreDto.SearchCondition.ofStoreType(storeType));
     }
 
     public List<StoreDto.Response> getCreatedRecentStoredBy3() {
-        return storeRepository.findRecentCreatedStoresBy3().stream()
-                .map(StoreDto.Response::from)
-                .toList();
+        return storeRepository.findRecentActiveStores(3);
     }
 
     public List<StoreDto.Response> getActiveStoresByCategory(Store.StoreCategory category) {
-        return storeRepository.findActiveStoresByCategory(category).stream()
-                .map(StoreDto.Response::from)
-                .toList();
+        return searchStores(StoreDto.SearchCondition.ofCategory(category));
     }
 
-    public List<StoreDto.Response> getActiveFranchiseStores(String headquarterStoreCode) {
+    public CursorPage<StoreDto.Response> getActiveFranchiseStores(String headquarterStoreCode, String cursor, int size) {
+        if (storeHierarchyIndex.find(headquarterStoreCode) == null) {
+            // 인덱스 구성 전이거나 다른 노드에서 방금 등록된 본사는 기존 방식으로 확인
+            try {
+                getStore(headquarterStoreCode);
+            } catch (EntityNotFoundException e) {
+                throw new EntityNotFoundException("존재하지 않는 본사 매장입니다.");
+            }
+        }
+
+        // 다른 노드의 가맹점 등록 / 폐점은 인덱스에 재구성 주기만큼 늦게 반영되므로 목록은 항상 DB 에서 조회
+        return searchStorePage(StoreDto.SearchCondition.ofHeadquarter(headquarterStoreCode), cursor, size);
+    }
+
+    // 인덱스로 본사 여부를 확인하고, 인덱스에 없으면 DB 에서 조회
+    private Store findHeadquarter(String headquarterStoreCode) {
+        StoreHierarchyIndex.Node node = storeHierarchyIndex.find(headquarterStoreCode);
+        if (node != null && node.id() != null) {
+            if (node.storeType() != Store.StoreType.HEADQUARTER) {
+                throw new InvalidValueException("선택한 매장이 본사가 아닙니다.");
+            }
+            return storeRepository.getReferenceById(node.id());
+        }
+
         Store headquarter = storeRepository.findByStoreCode(headquarterStoreCode)
                 .orElseThrow(() -> new EntityNotFoundException("존재하지 않는 본사 매장입니다."));
-
-        return storeRepository.findActiveStoresByHeadquarter(headquarter).stream()
-                .map(StoreDto.Response::from)
-                .toList();
+        if (headquarter.getStoreType() != Store.StoreType.HEADQUARTER) {
+            throw new InvalidValueException("선택한 매장이 본사가 아닙니다.");
+        }
+        return headquarter;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,54 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.domain.User;
+import com.gijun.salesmanagement.event.UserChangedEvent;
+import com.gijun.salesmanagement.repository.UserRepository;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+
+/**
+ * 사용자 ID 별 User 엔티티 캐시 (준영속 상태).
+ * 매장 등록/수정/폐점 시 작업자를 매번 조회하지 않도록 하며, 사용자 변경 커밋 시 무효화합니다.
+ * 다른 노드의 변경은 TTL 이 지나면 반영됩니다.
+ */
+@Component
+public class UserCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, User> cache;
+
+    public UserCache(UserRepository userRepository, MeterRegistry meterRegistry,
+                     @Value("${app.cache.user.maximum-size:1000}") long maximumSize,
+                     @Value("${app.cache.user.ttl-seconds:300}") long ttlSeconds) {
+        this.userRepository = userRepository;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        GuavaCacheMetrics.monitor(meterRegistry, cache, "user");
+    }
+
+    public User get(Long userId) {
+        User user = cache.getIfPresent(userId);
+        if (user == null) {
+            user = userRepository.findById(userId)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다. ID: " + userId));
+            cache.put(userId, user);
+        }
+        return user;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        cache.invalidate(event.userId());
+    }
+}
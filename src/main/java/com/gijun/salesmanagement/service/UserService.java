@@ -2,6 +2,7 @@ package com.gijun.salesmanagement.service;
 
 import com.gijun.salesmanagement.domain.User;
 import com.gijun.salesmanagement.repository.UserRepository;
+import com.gijun.salesmanagement.security.UserPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -15,9 +16,11 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final UserCache userCache;
 
     /**
      * 현재 로그인한 사용자의 정보를 가져옵니다.
+     * 토큰에 사용자 ID 가 있으면 캐시에서 조회하므로 변경하지 말고 참조로만 사용해야 합니다.
      * @return User 현재 인증된 사용자
      * @throws UsernameNotFoundException 사용자를 찾을 수 없는 경우
      * @throws IllegalStateException 인증 정보가 없는 경우
@@ -29,6 +32,10 @@ public class UserService {
             throw new IllegalStateException("현재 인증된 사용자가 없습니다.");
         }
 
+        if (authentication.getPrincipal() instanceof UserPrincipal principal && principal.getId() != null) {
+            return userCache.get(principal.getId());
+        }
+
         return userRepository.findByEmail(authentication.getName())
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + authentication.getName()));
     }
@@ -57,9 +64,16 @@ public class UserService {
     }
 
     /**
-     * 현재 사용자가 관리자 권한을 가지고 있는지 확인합니다.
+     * 현재 사용자가 관리자 권한을 가지고 있는지 확인합니다. (토큰의 권한 정보로 판단)
      */
     public boolean currentUserIsAdmin() {
-        return isAdmin(getCurrentUser());
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new IllegalStateException("현재 인증된 사용자가 없습니다.");
+        }
+
+        return authentication.getAuthorities().stream()
+                .anyMatch(authority -> User.Role.ROLE_ADMIN.name().equals(authority.getAuthority()));
     }
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.gijun.salesmanagement.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 클라이언트 IP 조회.
+ * X-Forwarded-For 는 클라이언트가 임의로 지정할 수 있으므로 직접 읽지 않습니다.
+ * server.forward-headers-strategy=native (web.properties) 설정으로 Tomcat RemoteIpValve 가
+ * 신뢰하는 내부 프록시가 추가한 구간만 반영하여 remoteAddr 를 가장 오른쪽의 신뢰할 수 없는 주소로 설정합니다.
+ */
+public final class ClientIpUtils {
+
+    private ClientIpUtils() {
+    }
+
+    public static String getClientIp(HttpServletRequest request) {
+        return request.getRemoteAddr();
+    }
+}
@@ -0,0 +1,123 @@
+package com.gijun.salesmanagement.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeTypeUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버가 보내는 STOMP 메시지를 모든 노드의 구독자에게 전달합니다.
+ * 각 노드는 자신의 simple broker 로 직접 전달하고, 같은 메시지를 transport 로 다른 노드에 전송합니다.
+ * 다른 노드는 수신한 메시지를 자신의 simple broker 로 전달하며, 자신이 보낸 메시지는 무시합니다.
+ */
+@Slf4j
+public class ClusterMessageRelay {
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final RelayTransport transport;
+    private final ObjectMapper objectMapper;
+    private final String nodeId;
+
+    private final Counter publishedMessages;
+    private final Counter receivedMessages;
+    private final Timer publishTimer;
+    private final Timer fanoutLatency;
+
+    public record OutboundMessage(String destination, Object payload) {}
+
+    public ClusterMessageRelay(SimpMessageSendingOperations messagingTemplate, RelayTransport transport,
+                               ObjectMapper objectMapper, MeterRegistry meterRegistry, String nodeId) {
+        this.messagingTemplate = messagingTemplate;
+        this.transport = transport;
+        this.objectMapper = objectMapper;
+        this.nodeId = nodeId;
+
+        String transportName = transport.name();
+        this.publishedMessages = Counter.builder("websocket.relay.messages")
+                .tag("direction", "published").tag("transport", transportName).register(meterRegistry);
+        this.receivedMessages = Counter.builder("websocket.relay.messages")
+                .tag("direction", "received").tag("transport", transportName).register(meterRegistry);
+        this.publishTimer = Timer.builder("websocket.relay.publish")
+                .tag("transport", transportName).register(meterRegistry);
+        // 다른 노드에서 발행된 시각부터 이 노드의 broker 로 전달되기까지 (노드 간 시계 차이가 포함됨)
+        this.fanoutLatency = Timer.builder("websocket.relay.fanout.latency")
+                .tag("transport", transportName)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        transport.subscribe(this::onEnvelopes);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 메시지를 이 노드에 전달한 뒤, 모아서 한 번에 다른 노드로 전송합니다.
+     */
+    public void sendAll(List<OutboundMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        List<RelayEnvelope> envelopes = new ArrayList<>(messages.size());
+        for (OutboundMessage message : messages) {
+            String payload;
+            try {
+                payload = objectMapper.writeValueAsString(message.payload());
+            } catch (JsonProcessingException e) {
+                log.warn("STOMP 메시지 직렬화 실패: {}", message.destination(), e);
+                continue;
+            }
+            deliver(message.destination(), payload);
+            envelopes.add(new RelayEnvelope(nodeId, message.destination(), payload, now));
+        }
+
+        if (envelopes.isEmpty()) {
+            return;
+        }
+        try {
+            publishTimer.record(() -> transport.publish(envelopes));
+            publishedMessages.increment(envelopes.size());
+        } catch (Exception e) {
+            log.warn("다른 노드로 메시지 전송 실패: {}건", envelopes.size(), e);
+        }
+    }
+
+    private void onEnvelopes(List<RelayEnvelope> envelopes) {
+        long now = System.currentTimeMillis();
+        for (RelayEnvelope envelope : envelopes) {
+            if (nodeId.equals(envelope.nodeId())) {
+                continue;  // 이미 직접 전달함
+            }
+            deliver(envelope.destination(), envelope.payload());
+            receivedMessages.increment();
+            fanoutLatency.record(Math.max(0, now - envelope.publishedAtMillis()), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // 직렬화된 JSON 을 그대로 전달하여 노드 간 메시지 형식을 동일하게 유지
+    private void deliver(String destination, String payload) {
+        Message<byte[]> message = MessageBuilder.withPayload(payload.getBytes(StandardCharsets.UTF_8))
+                .setHeader(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON)
+                .build();
+        try {
+            messagingTemplate.send(destination, message);
+        } catch (Exception e) {
+            log.warn("STOMP 메시지 전달 실패: {}", destination, e);
+        }
+    }
+}
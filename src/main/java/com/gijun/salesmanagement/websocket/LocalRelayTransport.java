@@ -0,0 +1,31 @@
+package com.gijun.salesmanagement.websocket;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 같은 JVM 안에서만 전달하는 transport. 단일 노드 운영과,
+ * 하나의 인스턴스를 여러 relay 가 공유하도록 하여 다중 노드 동작을 한 프로세스에서 테스트하는 데 사용합니다.
+ */
+public class LocalRelayTransport implements RelayTransport {
+
+    private final List<Consumer<List<RelayEnvelope>>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<RelayEnvelope> envelopes) {
+        for (Consumer<List<RelayEnvelope>> listener : listeners) {
+            listener.accept(envelopes);
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<List<RelayEnvelope>> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public String name() {
+        return "local";
+    }
+}
@@ -0,0 +1,85 @@
+package com.gijun.salesmanagement.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 으로 노드 간 메시지를 전달합니다.
+ * 메시지를 batchSize 개씩 JSON 배열 하나로 묶어 PUBLISH 하고, 묶음이 여러 개이면 pipeline 으로 한 번에 전송합니다.
+ */
+@Slf4j
+public class RedisRelayTransport implements RelayTransport {
+
+    private static final TypeReference<List<RelayEnvelope>> ENVELOPES = new TypeReference<>() {};
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final int batchSize;
+
+    public RedisRelayTransport(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+                               ObjectMapper objectMapper, String channel, int batchSize) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public void publish(List<RelayEnvelope> envelopes) {
+        if (envelopes.isEmpty()) {
+            return;
+        }
+
+        List<String> messages = new ArrayList<>();
+        try {
+            for (int from = 0; from < envelopes.size(); from += batchSize) {
+                messages.add(objectMapper.writeValueAsString(
+                        envelopes.subList(from, Math.min(from + batchSize, envelopes.size()))));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("relay 메시지 직렬화 실패", e);
+        }
+
+        if (messages.size() == 1) {
+            redisTemplate.convertAndSend(channel, messages.get(0));
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            messages.forEach(message -> stringConnection.publish(channel, message));
+            return null;
+        });
+    }
+
+    @Override
+    public void subscribe(Consumer<List<RelayEnvelope>> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> {
+            try {
+                listener.accept(objectMapper.readValue(
+                        new String(message.getBody(), StandardCharsets.UTF_8), ENVELOPES));
+            } catch (Exception e) {
+                log.warn("relay 메시지 처리 실패", e);
+            }
+        }, new ChannelTopic(channel));
+    }
+
+    @Override
+    public String name() {
+        return "redis";
+    }
+}
@@ -0,0 +1,11 @@
+package com.gijun.salesmanagement.websocket;
+
+/**
+ * 노드 간에 전달되는 STOMP 메시지. payload 는 이미 직렬화된 JSON 입니다.
+ */
+public record RelayEnvelope(
+        String nodeId,
+        String destination,
+        String payload,
+        long publishedAtMillis
+) {}
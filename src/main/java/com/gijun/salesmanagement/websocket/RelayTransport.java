@@ -0,0 +1,19 @@
+package com.gijun.salesmanagement.websocket;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 노드 간 메시지 전달 수단 (app.websocket.relay=local|redis)
+ */
+public interface RelayTransport {
+
+    /**
+     * 여러 메시지를 한 번에 전송합니다. 자신을 포함한 모든 구독 노드에 전달됩니다.
+     */
+    void publish(List<RelayEnvelope> envelopes);
+
+    void subscribe(Consumer<List<RelayEnvelope>> listener);
+
+    String name();
+}
@@ -0,0 +1,106 @@
+package com.gijun.salesmanagement.websocket;
+
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.StoreEventDto;
+import com.gijun.salesmanagement.event.StoreChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 매장 변경을 본사별 / 카테고리별 STOMP 토픽으로 전송합니다.
+ * 커밋된 변경을 토픽별로 모아 flush 주기마다 한 프레임으로 보내며, 같은 매장의 변경은 마지막 상태 하나로 합칩니다.
+ * 일괄 등록처럼 변경이 몰려도 구독자에게 전송되는 프레임 수는 토픽당 주기마다 하나입니다.
+ * 한 주기의 프레임은 {@link ClusterMessageRelay} 로 모아 보내 다른 노드의 구독자에게도 전달됩니다.
+ */
+@Slf4j
+@Component
+public class StoreEventBroadcaster {
+
+    public static final String HEADQUARTER_TOPIC = "/topic/stores/headquarter/";
+    public static final String CATEGORY_TOPIC = "/topic/stores/category/";
+
+    private final ClusterMessageRelay relay;
+    private final int maxEventsPerFrame;
+    private final Counter receivedEvents;
+    private final Counter sentFrames;
+
+    // 토픽 → (매장 코드 → 마지막 변경). 내부 Map 은 compute / remove 안에서만 접근
+    private final ConcurrentHashMap<String, Map<String, StoreEventDto.Message>> pending = new ConcurrentHashMap<>();
+
+    public StoreEventBroadcaster(ClusterMessageRelay relay, MeterRegistry meterRegistry,
+                                 @Value("${app.websocket.store-events.max-events-per-frame:500}") int maxEventsPerFrame) {
+        this.relay = relay;
+        this.maxEventsPerFrame = maxEventsPerFrame;
+        this.receivedEvents = Counter.builder("store.events.received").register(meterRegistry);
+        this.sentFrames = Counter.builder("store.events.frames").register(meterRegistry);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStoreChanged(StoreChangedEvent event) {
+        receivedEvents.increment();
+        StoreEventDto.Message message = StoreEventDto.Message.from(event);
+        for (String destination : destinations(event)) {
+            pending.compute(destination, (key, messages) -> {
+                Map<String, StoreEventDto.Message> buffer = messages != null ? messages : new LinkedHashMap<>();
+                buffer.remove(message.storeCode());  // 마지막 변경 순서를 유지
+                buffer.put(message.storeCode(), message);
+                return buffer;
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.websocket.store-events.flush-interval-ms:500}")
+    public void flush() {
+        List<ClusterMessageRelay.OutboundMessage> frames = new ArrayList<>();
+        for (String destination : pending.keySet()) {
+            Map<String, StoreEventDto.Message> buffer = pending.remove(destination);
+            if (buffer == null || buffer.isEmpty()) {
+                continue;
+            }
+
+            List<StoreEventDto.Message> messages = new ArrayList<>(buffer.values());
+            for (int from = 0; from < messages.size(); from += maxEventsPerFrame) {
+                List<StoreEventDto.Message> frame = messages.subList(from, Math.min(from + maxEventsPerFrame, messages.size()));
+                frames.add(new ClusterMessageRelay.OutboundMessage(destination, new StoreEventDto.Batch(List.copyOf(frame))));
+            }
+        }
+
+        if (frames.isEmpty()) {
+            return;
+        }
+        try {
+            relay.sendAll(frames);
+            sentFrames.increment(frames.size());
+        } catch (Exception e) {
+            log.warn("매장 변경 이벤트 전송 실패: {}건", frames.size(), e);
+        }
+    }
+
+    private List<String> destinations(StoreChangedEvent event) {
+        List<String> destinations = new ArrayList<>(3);
+
+        String headquarterStoreCode = event.storeType() == Store.StoreType.HEADQUARTER
+                ? event.storeCode()
+                : event.headquarterStoreCode();
+        if (headquarterStoreCode != null) {
+            destinations.add(HEADQUARTER_TOPIC + headquarterStoreCode);
+        }
+
+        destinations.add(CATEGORY_TOPIC + event.category());
+        if (event.previousCategory() != null) {
+            destinations.add(CATEGORY_TOPIC + event.previousCategory());
+        }
+        return destinations;
+    }
+}
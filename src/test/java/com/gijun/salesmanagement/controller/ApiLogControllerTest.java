@@ -0,0 +1,97 @@
+package com.gijun.salesmanagement.controller;
+
+import com.gijun.salesmanagement.monitoring.EndpointLatencyRecorder;
+import com.gijun.salesmanagement.monitoring.SqlProfiler;
+import com.gijun.salesmanagement.security.JwtTokenProvider;
+import com.gijun.salesmanagement.service.ApiLogRetentionService;
+import com.gijun.salesmanagement.service.ApiLogWriter;
+import com.gijun.salesmanagement.service.ExcelExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = ApiLogController.class, properties = "app.cors.allowed-origins=http://localhost:3000")
+@Import(ControllerSecurityTestConfig.class)
+class ApiLogControllerTest {
+
+    private static final String EXPORT_URL = "/api-logs/export?from=2024-01-01T00:00:00&to=2024-01-02T00:00:00";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private ExcelExportService excelExportService;
+
+    @MockBean
+    private ApiLogRetentionService apiLogRetentionService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private ApiLogWriter apiLogWriter;
+
+    @MockBean
+    private EndpointLatencyRecorder endpointLatencyRecorder;
+
+    @MockBean
+    private SqlProfiler sqlProfiler;
+
+    @Test
+    void 인증없이_내보내면_401() throws Exception {
+        mockMvc.perform(get(EXPORT_URL))
+                .andExpect(status().isUnauthorized())
+                .andExpect(jsonPath("$.error.code").value("E401"));
+
+        verify(excelExportService, never()).exportApiLogs(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void 일반_사용자가_내보내면_403() throws Exception {
+        mockMvc.perform(get(EXPORT_URL))
+                .andExpect(status().isForbidden())
+                .andExpect(jsonPath("$.error.code").value("E403"));
+
+        verify(excelExportService, never()).exportApiLogs(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void 관리자는_내보낼_수_있다() throws Exception {
+        mockMvc.perform(get(EXPORT_URL))
+                .andExpect(status().isOk());
+
+        verify(excelExportService).exportApiLogs(any(), any(), any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void 일반_사용자는_파티션_전환_403() throws Exception {
+        mockMvc.perform(post("/api-logs/partitioning"))
+                .andExpect(status().isForbidden());
+
+        verify(apiLogRetentionService, never()).convertToPartitioned();
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void 관리자는_파티션_전환을_실행할_수_있다() throws Exception {
+        mockMvc.perform(post("/api-logs/partitioning"))
+                .andExpect(status().isOk());
+
+        verify(apiLogRetentionService).convertToPartitioned();
+    }
+}
@@ -0,0 +1,60 @@
+package com.gijun.salesmanagement.controller;
+
+import com.gijun.salesmanagement.config.ConcurrencyLimitProperties;
+import com.gijun.salesmanagement.config.PasswordEncoderProperties;
+import com.gijun.salesmanagement.config.RateLimitProperties;
+import com.gijun.salesmanagement.config.SecurityConfig;
+import com.gijun.salesmanagement.security.AdaptiveConcurrencyLimiter;
+import com.gijun.salesmanagement.security.RateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * {@code @WebMvcTest} 에서 실제 {@link SecurityConfig} 필터 체인을 구성합니다.
+ * 요청 제한과 동시 처리 제한은 끄고, 인증은 {@code @WithMockUser} 로 지정합니다.
+ */
+@TestConfiguration
+@Import(SecurityConfig.class)
+class ControllerSecurityTestConfig {
+
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+
+    @Bean
+    PasswordEncoderProperties passwordEncoderProperties() {
+        PasswordEncoderProperties properties = new PasswordEncoderProperties();
+        properties.setStrength(4);
+        properties.setCalibrateOnStartup(false);
+        return properties;
+    }
+
+    @Bean
+    RateLimitProperties rateLimitProperties() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(false);
+        return properties;
+    }
+
+    @Bean
+    RateLimiter rateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        return new RateLimiter(properties, null, meterRegistry);
+    }
+
+    @Bean
+    ConcurrencyLimitProperties concurrencyLimitProperties() {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setEnabled(false);
+        return properties;
+    }
+
+    @Bean
+    AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter(ConcurrencyLimitProperties properties,
+                                                          MeterRegistry meterRegistry) {
+        return new AdaptiveConcurrencyLimiter(properties, meterRegistry);
+    }
+}
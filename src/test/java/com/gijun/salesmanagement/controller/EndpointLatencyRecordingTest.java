@@ -0,0 +1,65 @@
+package com.gijun.salesmanagement.controller;
+
+import com.gijun.salesmanagement.monitoring.EndpointLatencyRecorder;
+import com.gijun.salesmanagement.monitoring.SlidingWindowHistogram;
+import com.gijun.salesmanagement.monitoring.SqlProfiler;
+import com.gijun.salesmanagement.security.JwtTokenProvider;
+import com.gijun.salesmanagement.service.ApiLogRetentionService;
+import com.gijun.salesmanagement.service.ApiLogWriter;
+import com.gijun.salesmanagement.service.ExcelExportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * ApiLogInterceptor 가 컨트롤러 경로에 적용되어 응답 시간이 URI 템플릿별 히스토그램에 기록되는지 확인합니다.
+ */
+@WebMvcTest(controllers = ApiLogController.class, properties = "app.cors.allowed-origins=http://localhost:3000")
+@Import({ControllerSecurityTestConfig.class, EndpointLatencyRecorder.class})
+class EndpointLatencyRecordingTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EndpointLatencyRecorder latencyRecorder;
+
+    @MockBean
+    private ExcelExportService excelExportService;
+
+    @MockBean
+    private ApiLogRetentionService apiLogRetentionService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private ApiLogWriter apiLogWriter;
+
+    @MockBean
+    private SqlProfiler sqlProfiler;
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void 요청이_URI_템플릿별_히스토그램에_기록된다() throws Exception {
+        mockMvc.perform(get("/api-logs/export")
+                        .param("from", "2024-01-01T00:00:00")
+                        .param("to", "2024-01-02T00:00:00"))
+                .andExpect(status().isOk());
+
+        Map<String, SlidingWindowHistogram.Snapshot> snapshot = latencyRecorder.snapshot(1, TimeUnit.MINUTES);
+        assertThat(snapshot).containsKey("GET /api-logs/export");
+        assertThat(snapshot.get("GET /api-logs/export").count()).isEqualTo(1);
+    }
+}
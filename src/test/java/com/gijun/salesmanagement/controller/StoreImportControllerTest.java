@@ -0,0 +1,84 @@
+package com.gijun.salesmanagement.controller;
+
+import com.gijun.salesmanagement.monitoring.EndpointLatencyRecorder;
+import com.gijun.salesmanagement.monitoring.SqlProfiler;
+import com.gijun.salesmanagement.security.JwtTokenProvider;
+import com.gijun.salesmanagement.service.ApiLogWriter;
+import com.gijun.salesmanagement.service.StoreImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(controllers = StoreImportController.class, properties = "app.cors.allowed-origins=http://localhost:3000")
+@Import(ControllerSecurityTestConfig.class)
+class StoreImportControllerTest {
+
+    private final MockMultipartFile file = new MockMultipartFile("file", "stores.csv", "text/csv",
+            "매장명,카테고리,사업자번호,개장일,매장 유형,본사 매장 코드\n".getBytes(StandardCharsets.UTF_8));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private StoreImportService storeImportService;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private ApiLogWriter apiLogWriter;
+
+    @MockBean
+    private EndpointLatencyRecorder endpointLatencyRecorder;
+
+    @MockBean
+    private SqlProfiler sqlProfiler;
+
+    @Test
+    void 인증없이_일괄_등록하면_401() throws Exception {
+        mockMvc.perform(multipart("/stores/import").file(file))
+                .andExpect(status().isUnauthorized());
+
+        verify(storeImportService, never()).startImport(any());
+    }
+
+    @Test
+    @WithMockUser(roles = "USER")
+    void 일반_사용자는_일괄_등록_조회_재시작_모두_403() throws Exception {
+        mockMvc.perform(multipart("/stores/import").file(file))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/stores/import/1"))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(post("/stores/import/1/restart"))
+                .andExpect(status().isForbidden());
+
+        verify(storeImportService, never()).startImport(any());
+        verify(storeImportService, never()).getImport(anyLong());
+        verify(storeImportService, never()).restartImport(anyLong());
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void 관리자는_일괄_등록할_수_있다() throws Exception {
+        mockMvc.perform(multipart("/stores/import").file(file))
+                .andExpect(status().isAccepted());
+
+        verify(storeImportService).startImport(any());
+    }
+}
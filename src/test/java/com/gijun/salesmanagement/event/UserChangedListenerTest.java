@@ -0,0 +1,59 @@
+package com.gijun.salesmanagement.event;
+
+import com.gijun.salesmanagement.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class UserChangedListenerTest {
+
+    private final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+    private final UserChangedListener listener = new UserChangedListener(eventPublisher);
+
+    @Test
+    void 로그인_시_해시_갱신은_이벤트를_발행하지_않는다() {
+        User user = user();
+        user.rehashPassword("$2a$12$rehashed");
+
+        listener.onUpdated(user);
+
+        verify(eventPublisher, never()).publishEvent(any(Object.class));
+    }
+
+    @Test
+    void 프로필_변경은_보안_변경이_아닌_이벤트로_발행한다() {
+        User user = user();
+        user.updateProfile("홍길동", "010-0000-0000");
+
+        listener.onUpdated(user);
+
+        verify(eventPublisher).publishEvent(new UserChangedEvent(user.getId(), false));
+    }
+
+    @Test
+    void 권한_변경과_사용자의_비밀번호_변경은_보안_변경으로_발행한다() {
+        User user = user();
+        user.rehashPassword("$2a$12$rehashed");
+        user.updateRole(User.Role.ROLE_ADMIN);
+        listener.onUpdated(user);
+
+        user.updatePassword("$2a$10$changed");
+        listener.onUpdated(user);
+
+        verify(eventPublisher, times(2)).publishEvent(new UserChangedEvent(user.getId(), true));
+    }
+
+    private User user() {
+        return User.builder()
+                .email("user@example.com")
+                .password("$2a$10$original")
+                .name("사용자")
+                .phone("010-1234-5678")
+                .build();
+    }
+}
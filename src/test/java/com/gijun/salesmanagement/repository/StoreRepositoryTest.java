@@ -0,0 +1,96 @@
+package com.gijun.salesmanagement.repository;
+
+import com.gijun.salesmanagement.config.JpaAuditingConfig;
+import com.gijun.salesmanagement.config.QuerydslConfig;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.domain.User;
+import com.gijun.salesmanagement.dto.StoreDto;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({JpaAuditingConfig.class, QuerydslConfig.class})
+class StoreRepositoryTest {
+
+    private static final int FRANCHISE_COUNT = 5;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User admin = userRepository.save(User.builder()
+                .email("admin@test.com")
+                .password("password")
+                .name("관리자")
+                .phone("010-1234-5678")
+                .role(User.Role.ROLE_ADMIN)
+                .build());
+
+        Store headquarter = saveStore("AA-001", Store.StoreType.HEADQUARTER, null, admin);
+        for (int i = 0; i < FRANCHISE_COUNT; i++) {
+            saveStore(String.format("AA-%03d", i + 2), Store.StoreType.FRANCHISE, headquarter, admin);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void searchActiveStoresRunsSingleQuery() {
+        List<StoreDto.Response> responses = storeRepository.searchActiveStores(StoreDto.SearchCondition.ofStoreType(null));
+
+        assertThat(responses).hasSize(FRANCHISE_COUNT + 1);
+        assertThat(responses)
+                .filteredOn(response -> response.storeType() == Store.StoreType.FRANCHISE)
+                .allSatisfy(response -> {
+                    assertThat(response.headquarterStoreCode()).isEqualTo("AA-001");
+                    assertThat(response.createdBy()).isEqualTo("관리자");
+                });
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void searchActiveStoresByHeadquarterRunsSingleQuery() {
+        List<StoreDto.Response> responses = storeRepository.searchActiveStores(StoreDto.SearchCondition.ofHeadquarter("AA-001"));
+
+        assertThat(responses).hasSize(FRANCHISE_COUNT);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    private Store saveStore(String storeCode, Store.StoreType storeType, Store headquarter, User createdBy) {
+        Store store = Store.builder()
+                .storeName("매장 " + storeCode)
+                .category(Store.StoreCategory.CAFE)
+                .businessNumber("123-45-00" + storeCode.substring(3))
+                .openDate(LocalDate.of(2024, 1, 1))
+                .storeType(storeType)
+                .headquarter(headquarter)
+                .createdBy(createdBy)
+                .build();
+        store.setStoreCode(storeCode);
+        return storeRepository.save(store);
+    }
+}
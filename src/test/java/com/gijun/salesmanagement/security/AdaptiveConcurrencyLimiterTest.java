@@ -0,0 +1,97 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.config.ConcurrencyLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ConcurrencyLimitProperties properties;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ConcurrencyLimitProperties();
+        properties.setInitialLimit(20);
+        properties.setMinWindowSamples(10);
+        limiter = new AdaptiveConcurrencyLimiter(properties, new SimpleMeterRegistry(), clock::get);
+    }
+
+    @Test
+    void limit_의_절반_이상을_사용하고_응답_시간이_유지되면_1씩_늘린다() {
+        window(10, 10);
+        assertThat(limiter.getLimit()).isEqualTo(21);
+
+        window(11, 12);
+        assertThat(limiter.getLimit()).isEqualTo(22);
+    }
+
+    @Test
+    void 모든_요청이_기준보다_느려지면_backoffRatio_만큼_줄인다() {
+        window(10, 10);
+        assertThat(limiter.getLimit()).isEqualTo(21);
+
+        window(10, 30);
+        assertThat(limiter.getLimit()).isCloseTo(21 * properties.getBackoffRatio(), within(0.001));
+    }
+
+    @Test
+    void 일부_요청만_느리거나_표본에서_제외된_요청은_limit_을_줄이지_않는다() {
+        window(10, 10);
+
+        // 느린 요청 하나가 섞여도 주기 내 최소 응답 시간은 유지
+        for (int i = 0; i < 11; i++) {
+            assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.NORMAL)).isTrue();
+        }
+        limiter.release(millis(10_000), false, true);
+        limiter.release(millis(60_000), false, false);  // 내보내기 (표본 제외)
+        for (int i = 0; i < 8; i++) {
+            limiter.release(millis(10), false, true);
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs()));
+        limiter.release(millis(10), false, true);
+
+        assertThat(limiter.getLimit()).isEqualTo(22);
+    }
+
+    @Test
+    void 서버_오류가_발생하면_응답_시간과_관계없이_줄인다() {
+        window(10, 10);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.NORMAL)).isTrue();
+        }
+        limiter.release(millis(10), true, true);
+        for (int i = 0; i < 8; i++) {
+            limiter.release(millis(10), false, true);
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs()));
+        limiter.release(millis(10), false, true);
+
+        assertThat(limiter.getLimit()).isCloseTo(21 * properties.getBackoffRatio(), within(0.001));
+    }
+
+    // requests 개를 동시에 처리한 뒤 주기를 넘겨 limit 을 조정
+    private void window(int requests, long rttMillis) {
+        for (int i = 0; i < requests; i++) {
+            assertThat(limiter.tryAcquire(AdaptiveConcurrencyLimiter.Priority.NORMAL)).isTrue();
+        }
+        for (int i = 0; i < requests - 1; i++) {
+            limiter.release(millis(rttMillis), false, true);
+        }
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(properties.getWindowMs()));
+        limiter.release(millis(rttMillis), false, true);
+    }
+
+    private long millis(long millis) {
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+}
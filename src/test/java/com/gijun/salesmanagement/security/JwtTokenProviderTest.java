@@ -0,0 +1,92 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.config.JwtConfig;
+import com.gijun.salesmanagement.event.UserChangedEvent;
+import io.jsonwebtoken.io.Encoders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JwtTokenProviderTest {
+
+    private static final long ACCESS_TOKEN_VALIDITY_SECONDS = 60;
+    private static final long USER_ID = 1L;
+
+    private final AtomicLong clock = new AtomicLong(Instant.parse("2026-01-01T00:00:00Z").toEpochMilli());
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtConfig config = new JwtConfig();
+        config.setSecret(Encoders.BASE64.encode(new byte[64]));
+        config.setAccessTokenValidity(ACCESS_TOKEN_VALIDITY_SECONDS);
+        config.setRefreshTokenValidity(86400);
+        config.setAuthenticationCacheTtlSeconds(3600);  // 토큰 만료 시각이 먼저 도래하도록 TTL 을 길게 설정
+
+        meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new JwtTokenProvider(config, meterRegistry, clock::get);
+    }
+
+    @Test
+    void 캐시된_토큰은_만료_시각_이후에_사용되지_않는다() {
+        long expiresAt = clock.get() + TimeUnit.SECONDS.toMillis(ACCESS_TOKEN_VALIDITY_SECONDS);
+        String token = accessToken(USER_ID);
+
+        assertThat(tokenProvider.resolveAuthentication(token)).isNotNull();
+
+        clock.set(expiresAt - 1);
+        assertThat(tokenProvider.resolveAuthentication(token)).isNotNull();
+        assertThat(cacheGets("hit")).isEqualTo(1);
+
+        // 캐시 TTL 이 남아 있어도 exp 가 지나면 캐시 항목을 버리고 다시 검증하여 거부
+        clock.set(expiresAt + 1);
+        assertThat(tokenProvider.resolveAuthentication(token)).isNull();
+        assertThat(tokenProvider.resolveAuthentication(token)).isNull();
+    }
+
+    @Test
+    void 보안_정보가_바뀐_사용자의_캐시_항목만_제거된다() {
+        String token = accessToken(USER_ID);
+        String otherToken = accessToken(USER_ID + 1);
+        tokenProvider.resolveAuthentication(token);
+        tokenProvider.resolveAuthentication(otherToken);
+        assertThat(cacheGets("miss")).isEqualTo(2);
+
+        // 프로필만 바뀐 경우는 그대로 사용
+        tokenProvider.onUserChanged(new UserChangedEvent(USER_ID, false));
+        tokenProvider.resolveAuthentication(token);
+        assertThat(cacheGets("miss")).isEqualTo(2);
+
+        tokenProvider.onUserChanged(new UserChangedEvent(USER_ID, true));
+        Authentication authentication = tokenProvider.resolveAuthentication(token);
+        tokenProvider.resolveAuthentication(otherToken);
+
+        assertThat(authentication).isNotNull();
+        assertThat(((UserPrincipal) authentication.getPrincipal()).getId()).isEqualTo(USER_ID);
+        assertThat(cacheGets("miss")).isEqualTo(3);
+        assertThat(cacheGets("hit")).isEqualTo(2);
+    }
+
+    private String accessToken(long userId) {
+        var authorities = AuthorityUtils.createAuthorityList("ROLE_USER");
+        UserPrincipal principal = new UserPrincipal(userId, "user" + userId + "@test.com", authorities);
+        return tokenProvider.createAccessToken(new UsernamePasswordAuthenticationToken(principal, null, authorities));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", "jwt.authentication", "result", result)
+                .functionCounter()
+                .count();
+    }
+}
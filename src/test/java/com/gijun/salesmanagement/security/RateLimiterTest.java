@@ -0,0 +1,32 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.config.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    @Test
+    void 로컬_키가_가득_차면_새_키는_공용_버킷으로_제한된다() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setMaxLocalKeys(2);
+        RateLimiter rateLimiter = new RateLimiter(properties, null, new SimpleMeterRegistry());
+
+        // 기본 login 규칙: 분당 10회
+        assertThat(rateLimiter.check("POST", "/api/auth/login", "ip:10.0.0.1", List.of()).allowed()).isTrue();
+        assertThat(rateLimiter.check("POST", "/api/auth/login", "ip:10.0.0.2", List.of()).allowed()).isTrue();
+
+        // IP 를 바꿔 가며 요청해도 공용 버킷의 허용량(10회)을 넘지 못함
+        long allowed = 0;
+        for (int i = 3; i < 33; i++) {
+            if (rateLimiter.check("POST", "/api/auth/login", "ip:10.0.0." + i, List.of()).allowed()) {
+                allowed++;
+            }
+        }
+        assertThat(allowed).isEqualTo(10);
+    }
+}
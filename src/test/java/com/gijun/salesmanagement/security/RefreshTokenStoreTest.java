@@ -0,0 +1,101 @@
+package com.gijun.salesmanagement.security;
+
+import com.gijun.salesmanagement.config.JwtConfig;
+import com.gijun.salesmanagement.event.UserChangedEvent;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Lua 스크립트로 처리하는 토큰 교체 / 재사용 감지를 실제 Redis 로 검증합니다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RefreshTokenStoreTest {
+
+    private static final Long USER_ID = 1L;
+
+    @Container
+    private static final GenericContainer<?> REDIS =
+            new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private RefreshTokenStore store;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(REDIS.getHost(), REDIS.getMappedPort(6379));
+        connectionFactory.afterPropertiesSet();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute((RedisCallback<Object>) connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        });
+        JwtConfig jwtConfig = new JwtConfig();
+        jwtConfig.setRefreshTokenValidity(3600);
+        store = new RefreshTokenStore(redisTemplate, jwtConfig);
+    }
+
+    @Test
+    void 교체된_토큰을_다시_사용하면_family_를_폐기한다() {
+        store.createFamily("family-1", "jti-1", USER_ID, "user@example.com", "ROLE_USER");
+
+        RefreshTokenStore.Rotation rotated = store.rotate("family-1", "jti-1", "jti-2");
+        assertThat(rotated.status()).isEqualTo(RefreshTokenStore.RotationStatus.ROTATED);
+        assertThat(rotated.userId()).isEqualTo(USER_ID);
+        assertThat(rotated.authorities()).isEqualTo("ROLE_USER");
+
+        // 탈취된 이전 토큰 재사용
+        assertThat(store.rotate("family-1", "jti-1", "jti-3").status())
+                .isEqualTo(RefreshTokenStore.RotationStatus.REUSED);
+        // 정상 사용자의 최신 토큰도 더 이상 사용할 수 없음
+        assertThat(store.rotate("family-1", "jti-2", "jti-4").status())
+                .isEqualTo(RefreshTokenStore.RotationStatus.MISSING);
+    }
+
+    @Test
+    void 교체해도_family_만료_시각은_연장되지_않는다() {
+        store.createFamily("family-1", "jti-1", USER_ID, "user@example.com", "ROLE_USER");
+        Long ttlBefore = redisTemplate.getExpire("auth:refresh:family:family-1");
+
+        store.rotate("family-1", "jti-1", "jti-2");
+
+        assertThat(redisTemplate.getExpire("auth:refresh:family:family-1")).isLessThanOrEqualTo(ttlBefore);
+    }
+
+    @Test
+    void 보안_변경이_아닌_사용자_변경은_family_를_유지한다() {
+        store.createFamily("family-1", "jti-1", USER_ID, "user@example.com", "ROLE_USER");
+        store.createFamily("family-2", "jti-a", USER_ID, "user@example.com", "ROLE_USER");
+
+        store.onUserChanged(new UserChangedEvent(USER_ID, false));
+        assertThat(store.rotate("family-1", "jti-1", "jti-2").status())
+                .isEqualTo(RefreshTokenStore.RotationStatus.ROTATED);
+
+        store.onUserChanged(new UserChangedEvent(USER_ID, true));
+        assertThat(store.rotate("family-1", "jti-2", "jti-3").status())
+                .isEqualTo(RefreshTokenStore.RotationStatus.MISSING);
+        assertThat(store.rotate("family-2", "jti-a", "jti-b").status())
+                .isEqualTo(RefreshTokenStore.RotationStatus.MISSING);
+    }
+}
@@ -0,0 +1,134 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.config.ApiLogProperties;
+import com.gijun.salesmanagement.domain.ApiLog;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ApiLogWriterTest {
+
+    private static final int BATCH_SIZE = 3;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final PreparedStatement preparedStatement = mock(PreparedStatement.class);
+    private final List<Integer> flushedBatchSizes = new CopyOnWriteArrayList<>();
+    private final CountDownLatch firstBatchStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseFirstBatch = new CountDownLatch(1);
+
+    private ApiLogWriter writer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ApiLogProperties properties = new ApiLogProperties();
+        properties.setBatchSize(BATCH_SIZE);
+        properties.setFlushIntervalMs(60_000);  // 주기 flush 가 끼어들지 않도록 길게 설정
+        properties.setShutdownTimeoutMs(5_000);
+
+        // 첫 배치 INSERT 를 붙잡아 두어, 종료 시점에 큐에 로그가 남아 있도록 함
+        when(jdbcTemplate.batchUpdate(anyString(), anyCollection(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenAnswer(invocation -> {
+                    Collection<Object> batch = invocation.getArgument(1);
+                    ParameterizedPreparedStatementSetter<Object> setter = invocation.getArgument(3);
+                    flushedBatchSizes.add(batch.size());
+                    if (flushedBatchSizes.size() == 1) {
+                        firstBatchStarted.countDown();
+                        releaseFirstBatch.await(5, TimeUnit.SECONDS);
+                    }
+                    for (Object entry : batch) {
+                        setter.setValues(preparedStatement, entry);
+                    }
+                    return new int[0][];
+                });
+
+        writer = new ApiLogWriter(jdbcTemplate, properties);
+        writer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        releaseFirstBatch.countDown();
+        if (writer.isRunning()) {
+            writer.stop();
+        }
+    }
+
+    @Test
+    void 종료_시_큐에_남은_로그를_배치_단위로_모두_저장한다() throws Exception {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            assertThat(writer.enqueue(apiLog(i))).isTrue();
+        }
+        assertThat(firstBatchStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 첫 배치를 저장하는 동안 쌓인 로그
+        for (int i = BATCH_SIZE; i < BATCH_SIZE + 7; i++) {
+            assertThat(writer.enqueue(apiLog(i))).isTrue();
+        }
+        assertThat(writer.getQueueSize()).isEqualTo(7);
+
+        CompletableFuture<Void> stopping = CompletableFuture.runAsync(writer::stop);
+        await().atMost(5, TimeUnit.SECONDS).until(() -> !writer.isRunning());
+        releaseFirstBatch.countDown();
+        stopping.get(5, TimeUnit.SECONDS);
+
+        assertThat(flushedBatchSizes).containsExactly(BATCH_SIZE, BATCH_SIZE, BATCH_SIZE, 1);
+        assertThat(writer.getQueueSize()).isZero();
+        assertThat(writer.getWrittenCount()).isEqualTo(BATCH_SIZE + 7);
+        assertThat(writer.getDroppedCount()).isZero();
+        assertThat(flushedRequestUris()).containsExactlyElementsOf(
+                IntStream.range(0, BATCH_SIZE + 7).mapToObj(i -> "/api/stores/" + i).toList());
+    }
+
+    @Test
+    void 종료_후에_적재한_로그는_버리고_저장하지_않는다() {
+        // 대기 중인 worker 는 flush 주기(60초)를 기다리지 않고 바로 종료
+        assertThat(CompletableFuture.runAsync(writer::stop)).succeedsWithin(1, TimeUnit.SECONDS);
+
+        assertThat(writer.enqueue(apiLog(0))).isFalse();
+
+        assertThat(writer.getDroppedCount()).isEqualTo(1);
+        assertThat(writer.getQueueSize()).isZero();
+        assertThat(flushedBatchSizes).isEmpty();
+    }
+
+    private List<String> flushedRequestUris() throws Exception {
+        ArgumentCaptor<String> requestUris = ArgumentCaptor.forClass(String.class);
+        verify(preparedStatement, atLeastOnce()).setString(eq(1), requestUris.capture());
+        return requestUris.getAllValues();
+    }
+
+    private static ApiLog apiLog(int index) {
+        return ApiLog.builder()
+                .requestUri("/api/stores/" + index)
+                .method("GET")
+                .statusCode(200)
+                .processingTime(1L)
+                .status(ApiLog.LogStatus.SUCCESS)
+                .build();
+    }
+}
@@ -0,0 +1,152 @@
+package com.gijun.salesmanagement.service;
+
+import com.gijun.salesmanagement.config.JpaAuditingConfig;
+import com.gijun.salesmanagement.config.QuerydslConfig;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.domain.User;
+import com.gijun.salesmanagement.repository.StoreCodeSequenceRepository;
+import com.gijun.salesmanagement.repository.StoreRepository;
+import com.gijun.salesmanagement.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 노드(생성기 인스턴스)가 같은 시퀀스 행에서 구간을 예약하며 매장을 동시에 등록하는 상황을 검증합니다.
+ * 스레드마다 자기 트랜잭션을 사용해야 하므로 테스트 트랜잭션은 사용하지 않습니다.
+ */
+@DataJpaTest
+@Import({JpaAuditingConfig.class, QuerydslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StoreCodeGeneratorTest {
+
+    private static final int BLOCK_SIZE = 5;
+    private static final int NODE_COUNT = 2;
+    private static final int THREADS_PER_NODE = 3;  // 스레드 수 + 구간 예약 커넥션이 기본 커넥션 풀(10) 안에 들어가도록 유지
+    private static final int STORES_PER_THREAD = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private StoreCodeSequenceRepository sequenceRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @AfterEach
+    void tearDown() {
+        storeRepository.deleteAllInBatch();
+        sequenceRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void 동시에_매장을_등록해도_코드가_중복되지_않고_예약_구간에_빈_번호가_없다() throws Exception {
+        User admin = userRepository.save(User.builder()
+                .email("admin@test.com")
+                .password("password")
+                .name("관리자")
+                .phone("010-1234-5678")
+                .role(User.Role.ROLE_ADMIN)
+                .build());
+
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        AtomicInteger businessNumber = new AtomicInteger();
+        List<Queue<Long>> ordinalsByNode = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(NODE_COUNT * THREADS_PER_NODE);
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        try {
+            for (int node = 0; node < NODE_COUNT; node++) {
+                StoreCodeGenerator generator = new StoreCodeGenerator(
+                        jdbcTemplate, sequenceRepository, transactionManager, new SimpleMeterRegistry(), BLOCK_SIZE);
+                Queue<Long> ordinals = new ConcurrentLinkedQueue<>();
+                ordinalsByNode.add(ordinals);
+
+                for (int t = 0; t < THREADS_PER_NODE; t++) {
+                    futures.add(executor.submit(() -> {
+                        startGate.await();
+                        for (int i = 0; i < STORES_PER_THREAD; i++) {
+                            // 매장 등록 트랜잭션 안에서 코드 발급 (StoreService.createStore 와 동일한 흐름)
+                            String storeCode = transaction.execute(status -> {
+                                Store store = Store.builder()
+                                        .storeName("매장")
+                                        .category(Store.StoreCategory.CAFE)
+                                        .businessNumber(String.format("123-45-%05d", businessNumber.incrementAndGet()))
+                                        .openDate(LocalDate.of(2024, 1, 1))
+                                        .storeType(Store.StoreType.HEADQUARTER)
+                                        .createdBy(admin)
+                                        .build();
+                                store.setStoreCode(generator.generateStoreCode());
+                                return storeRepository.save(store).getStoreCode();
+                            });
+                            ordinals.add(StoreCodeGenerator.toOrdinal(storeCode));
+                        }
+                        return null;
+                    }));
+                }
+            }
+
+            startGate.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        int total = NODE_COUNT * THREADS_PER_NODE * STORES_PER_THREAD;
+        List<Long> allOrdinals = ordinalsByNode.stream().flatMap(Queue::stream).sorted().toList();
+
+        // 중복 없음: 저장된 매장 코드 수와 발급된 코드 수가 같음 (store_code unique 제약도 함께 검증)
+        assertThat(allOrdinals).doesNotHaveDuplicates().hasSize(total);
+        assertThat(storeRepository.count()).isEqualTo(total);
+
+        // 각 노드는 예약한 구간을 모두 소진하므로, 전체 발급 순번은 AA-001 부터 빈 번호 없이 이어짐
+        assertThat(allOrdinals).containsExactlyElementsOf(LongStream.rangeClosed(1, total).boxed().toList());
+        assertThat(sequenceRepository.findById("store_code")).get()
+                .satisfies(sequence -> assertThat(sequence.getNextValue()).isEqualTo(total + 1L));
+
+        // 노드별로도 BLOCK_SIZE 단위 구간이 연속된 순번으로 채워짐
+        for (Queue<Long> ordinals : ordinalsByNode) {
+            List<Long> sorted = ordinals.stream().sorted().toList();
+            assertThat(sorted).hasSize(THREADS_PER_NODE * STORES_PER_THREAD);
+            for (int from = 0; from < sorted.size(); from += BLOCK_SIZE) {
+                List<Long> block = sorted.subList(from, from + BLOCK_SIZE);
+                assertThat((block.get(0) - 1) % BLOCK_SIZE).isZero();
+                assertThat(block.get(BLOCK_SIZE - 1) - block.get(0)).isEqualTo(BLOCK_SIZE - 1L);
+            }
+        }
+    }
+}
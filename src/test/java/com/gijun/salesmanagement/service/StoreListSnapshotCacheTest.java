@@ -0,0 +1,66 @@
+package com.gijun.salesmanagement.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gijun.salesmanagement.config.StoreCacheProperties;
+import com.gijun.salesmanagement.domain.Store;
+import com.gijun.salesmanagement.dto.StoreDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StoreListSnapshotCacheTest {
+
+    private final StoreService storeService = mock(StoreService.class);
+    private final StoreListSnapshotCache.View view = StoreListSnapshotCache.View.ofStoreType(null);
+    private StoreListSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        StoreCacheProperties properties = new StoreCacheProperties();
+        properties.setListSnapshotMaxAgeSeconds(0);  // 매 조회마다 만료
+        cache = new StoreListSnapshotCache(storeService, new ObjectMapper().findAndRegisterModules(), properties,
+                new SyncTaskExecutor(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 목록이_같으면_다시_구성해도_본문과_ETag_를_재사용한다() {
+        when(storeService.getActiveStoresByType(null)).thenReturn(List.of(store("S001", "강남점")));
+
+        StoreListSnapshotCache.Snapshot first = cache.get(view);
+        cache.get(view);  // 만료 → 재구성
+        StoreListSnapshotCache.Snapshot rebuilt = cache.get(view);
+
+        verify(storeService, times(3)).getActiveStoresByType(null);
+        assertThat(rebuilt.etag()).isEqualTo(first.etag());
+        assertThat(rebuilt.body()).isSameAs(first.body());
+    }
+
+    @Test
+    void 만료된_스냅샷은_재구성하는_동안_이전_스냅샷을_응답한다() {
+        when(storeService.getActiveStoresByType(null)).thenReturn(List.of(store("S001", "강남점")));
+        StoreListSnapshotCache.Snapshot first = cache.get(view);
+
+        when(storeService.getActiveStoresByType(null)).thenReturn(List.of(store("S001", "역삼점")));
+        StoreListSnapshotCache.Snapshot stale = cache.get(view);
+        StoreListSnapshotCache.Snapshot rebuilt = cache.get(view);
+
+        assertThat(stale).isSameAs(first);
+        assertThat(rebuilt.etag()).isNotEqualTo(first.etag());
+    }
+
+    private StoreDto.Response store(String storeCode, String storeName) {
+        return new StoreDto.Response(storeCode, storeName, Store.StoreCategory.CAFE, "1234567890",
+                LocalDate.of(2024, 1, 1), null, "N", Store.StoreType.HEADQUARTER, null, null,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 1), "admin", "admin");
+    }
+}
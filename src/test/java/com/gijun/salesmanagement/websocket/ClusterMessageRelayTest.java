@@ -0,0 +1,74 @@
+package com.gijun.salesmanagement.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 하나의 LocalRelayTransport 를 공유하는 두 노드로 다중 노드 전달을 검증합니다.
+ */
+class ClusterMessageRelayTest {
+
+    private static final String DESTINATION = "/topic/stores/category/CAFE";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private SimpMessageSendingOperations brokerA;
+    private SimpMessageSendingOperations brokerB;
+    private SimpleMeterRegistry registryB;
+    private ClusterMessageRelay nodeA;
+    private ClusterMessageRelay nodeB;
+
+    @BeforeEach
+    void setUp() {
+        LocalRelayTransport transport = new LocalRelayTransport();
+        brokerA = mock(SimpMessageSendingOperations.class);
+        brokerB = mock(SimpMessageSendingOperations.class);
+        registryB = new SimpleMeterRegistry();
+        nodeA = new ClusterMessageRelay(brokerA, transport, objectMapper, new SimpleMeterRegistry(), "node-a");
+        nodeB = new ClusterMessageRelay(brokerB, transport, objectMapper, registryB, "node-b");
+    }
+
+    @Test
+    void 한_노드에서_보낸_메시지가_모든_노드에_한_번씩_전달된다() throws Exception {
+        nodeA.sendAll(List.of(new ClusterMessageRelay.OutboundMessage(DESTINATION, Map.of("storeCode", "S000001"))));
+
+        verify(brokerA, times(1)).send(eq(DESTINATION), any(Message.class));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(brokerB, times(1)).send(eq(DESTINATION), captor.capture());
+        Map<?, ?> payload = objectMapper.readValue(
+                new String(captor.getValue().getPayload(), StandardCharsets.UTF_8), Map.class);
+        assertThat(payload.get("storeCode")).isEqualTo("S000001");
+
+        assertThat(registryB.get("websocket.relay.messages").tag("direction", "received").counter().count())
+                .isEqualTo(1.0);
+        assertThat(registryB.get("websocket.relay.fanout.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 여러_메시지를_한_번에_전달한다() {
+        nodeB.sendAll(List.of(
+                new ClusterMessageRelay.OutboundMessage(DESTINATION, Map.of("storeCode", "S000001")),
+                new ClusterMessageRelay.OutboundMessage("/topic/stores/headquarter/S000001", Map.of("storeCode", "S000002"))));
+
+        verify(brokerA, times(2)).send(any(String.class), any(Message.class));
+        verify(brokerB, times(2)).send(any(String.class), any(Message.class));
+    }
+}